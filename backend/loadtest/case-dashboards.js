@@ -0,0 +1,84 @@
+// 대시보드 조회 부하 테스트 (k6)
+// 동시 요청 수(in-flight)를 단계별로 고정해 각 단계의 p99 응답 시간을 측정합니다.
+//   k6 run -e BASE_URL=http://localhost:8080 -e USERS=1000 -e MODE=platform loadtest/case-dashboards.js
+// 결과는 results/<MODE>.json 에 단계별 { inFlight, p99, p95, rps, errorRate } 로 남습니다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USERS = parseInt(__ENV.USERS || '1000', 10); // bench/seed.sql 과 같은 규칙: user_id % 4 로 역할 결정
+const MODE = __ENV.MODE || 'platform';
+const STAGE_DURATION = __ENV.STAGE_DURATION || '30s';
+const LEVELS = (__ENV.LEVELS || '25,50,100,200,400,800').split(',').map(Number);
+
+// 단계마다 별도 시나리오로 동시 요청 수를 고정하고 순서대로 실행
+const stageSeconds = parseInt(STAGE_DURATION, 10);
+export const options = {
+    discardResponseBodies: true,
+    scenarios: Object.fromEntries(LEVELS.map((vus, i) => [`inflight_${vus}`, {
+        executor: 'constant-vus',
+        vus,
+        duration: STAGE_DURATION,
+        startTime: `${i * (stageSeconds + 5)}s`,
+        gracefulStop: '5s',
+    }])),
+    // 단계별 p99 를 요약에 포함시키기 위한 임계값 (실패 조건 아님)
+    thresholds: Object.fromEntries(LEVELS.flatMap((vus) => [
+        [`http_req_duration{scenario:inflight_${vus}}`, ['p(99)>=0']],
+        [`http_reqs{scenario:inflight_${vus}}`, ['count>=0']],
+        [`http_req_failed{scenario:inflight_${vus}}`, ['rate>=0']],
+    ])),
+    summaryTrendStats: ['avg', 'p(95)', 'p(99)', 'max'],
+};
+
+function userOfRole(remainder) {
+    const k = Math.floor(Math.random() * Math.floor(USERS / 4));
+    return remainder === 0 ? 4 * (k + 1) : 4 * k + remainder;
+}
+
+// 역할별 대시보드 조회를 고르게 섞음
+const requests = [
+    () => `/api/cases/client/${userOfRole(0)}`,
+    () => `/api/cases/culprit/${userOfRole(1)}`,
+    () => `/api/cases/culprit/available`,
+    () => `/api/cases/police/pending/${userOfRole(2)}`,
+    () => `/api/cases/police/my/${userOfRole(2)}`,
+    () => `/api/cases/detective/${userOfRole(3)}`,
+    () => `/api/cases/detective/result/${userOfRole(3)}`,
+    () => `/api/cases/available`,
+    () => `/api/ranking/detectives`,
+];
+
+export default function () {
+    const path = requests[Math.floor(Math.random() * requests.length)]();
+    const res = http.get(`${BASE_URL}${path}`, { tags: { name: path.replace(/\/\d+$/, '/{id}') } });
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
+
+export function handleSummary(data) {
+    const rows = LEVELS.map((vus) => {
+        const duration = data.metrics[`http_req_duration{scenario:inflight_${vus}}`];
+        const reqs = data.metrics[`http_reqs{scenario:inflight_${vus}}`];
+        const failed = data.metrics[`http_req_failed{scenario:inflight_${vus}}`];
+        return {
+            inFlight: vus,
+            p95: duration ? duration.values['p(95)'] : null,
+            p99: duration ? duration.values['p(99)'] : null,
+            rps: reqs ? reqs.values.count / stageSeconds : null,
+            errorRate: failed ? failed.values.rate : null,
+        };
+    });
+
+    const table = [`mode=${MODE}`, 'inFlight\tp95(ms)\tp99(ms)\trps\terrors']
+        .concat(rows.map((r) => [r.inFlight, fmt(r.p95), fmt(r.p99), fmt(r.rps), fmt(r.errorRate * 100) + '%'].join('\t')))
+        .join('\n');
+
+    return {
+        stdout: table + '\n',
+        [`results/${MODE}.json`]: JSON.stringify({ mode: MODE, stages: rows }, null, 2),
+    };
+}
+
+function fmt(value) {
+    return value == null ? '-' : value.toFixed(1);
+}
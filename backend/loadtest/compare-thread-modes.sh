@@ -0,0 +1,31 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드 모드와 가상 스레드 모드(Java 21)를 같은 조건으로 부하 테스트해 비교합니다.
+#   ./loadtest/compare-thread-modes.sh [app.jar]
+# 필요: Java 21, k6, 시드 데이터가 적재된 DB (application.properties 의 접속 정보 사용)
+# 결과: loadtest/results/platform.json, loadtest/results/virtual.json
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+JAR="${1:-$(ls build/libs/*.jar target/*.jar 2>/dev/null | grep -v plain | head -n 1)}"
+PORT="${PORT:-8080}"
+mkdir -p loadtest/results
+
+run_mode() {
+    local mode="$1"; shift
+    java -jar "$JAR" --server.port="$PORT" "$@" > "loadtest/results/${mode}.log" 2>&1 &
+    local pid=$!
+    trap "kill $pid 2>/dev/null || true" EXIT
+
+    for _ in $(seq 1 60); do
+        curl -sf "http://localhost:${PORT}/actuator/health" > /dev/null && break
+        sleep 1
+    done
+
+    (cd loadtest && k6 run -e BASE_URL="http://localhost:${PORT}" -e MODE="$mode" case-dashboards.js)
+
+    kill "$pid"; wait "$pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+run_mode platform
+run_mode virtual --spring.profiles.active=virtual-threads
@@ -0,0 +1,71 @@
+package me.junyi.bench;
+
+import me.junyi.dto.*;
+import me.junyi.service.CaseService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대시보드별 DTO 조립 비용 (CaseService 조회 메서드 단위)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CaseServiceBenchmark {
+
+    private static final int PAGE = CursorPage.DEFAULT_SIZE;
+
+    private CaseService caseService;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededApplication app) {
+        caseService = app.bean(CaseService.class);
+    }
+
+    @Benchmark
+    public List<?> availableCases() {
+        return caseService.getAvailableCases(null, PAGE).items();
+    }
+
+    @Benchmark
+    public List<CaseClientDto> clientDashboard(SeededApplication app) {
+        return caseService.getCasesByClientId(app.randomClientId(), null, PAGE).items();
+    }
+
+    @Benchmark
+    public List<MyCaseDto> culpritMyCases(SeededApplication app) {
+        return caseService.getCulpritMyCases(app.randomCulpritId());
+    }
+
+    @Benchmark
+    public List<AvailableCaseDto> culpritAvailableCases() {
+        return caseService.getAvailableCasesForCulprit(null, PAGE).items();
+    }
+
+    @Benchmark
+    public List<PendingCaseDto> policePendingCases(SeededApplication app) {
+        return caseService.getPendingCasesForPolice(app.randomPoliceId());
+    }
+
+    @Benchmark
+    public List<PendingCaseDto> policeMyCases(SeededApplication app) {
+        return caseService.getMyPoliceCases(app.randomPoliceId(), null, PAGE).items();
+    }
+
+    @Benchmark
+    public List<CaseDetectiveDto> detectiveAssignedCases(SeededApplication app) {
+        return caseService.getAssignedCasesByDetectiveId(app.randomDetectiveId(), null, PAGE).items();
+    }
+
+    @Benchmark
+    public List<CaseDetectiveDto> detectiveCompletedCases(SeededApplication app) {
+        return caseService.getCompletedCasesByDetectiveId(app.randomDetectiveId(), null, PAGE).items();
+    }
+
+    @Benchmark
+    public CaseResultDto caseResult(SeededApplication app) {
+        return caseService.getCaseResult(app.randomResolvedCaseId());
+    }
+}
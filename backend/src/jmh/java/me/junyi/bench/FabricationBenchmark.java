@@ -0,0 +1,79 @@
+package me.junyi.bench;
+
+import me.junyi.config.QueryStats;
+import me.junyi.domain.CaseInfo;
+import me.junyi.domain.CaseStatus;
+import me.junyi.service.CaseContentCache;
+import me.junyi.service.CaseService;
+import me.junyi.service.UserIdentityCache;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 범인의 증거 조작 (CaseService.handleCriminalAction)
+ * 실행된 SQL 문장 수(statements)와 호출 수(calls)를 보조 지표로 함께 보고합니다. (statements / calls = 호출당 문장 수)
+ * 사건 본문/사용자 캐시를 미리 채워 두므로 호출당 참여 조회 1 + DELETE 1 + INSERT 1 + UPDATE 1 = 4회로 고정됩니다.
+ * 조작은 '등록' 상태의 사건에만 가능하므로 호출마다 대상 사건을 '등록'으로 되돌려 둡니다. (측정 시간에서 제외)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FabricationBenchmark {
+
+    private CaseService caseService;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededApplication app) {
+        caseService = app.bean(CaseService.class);
+
+        // 조작 경로의 쓰기 문장만 재도록 캐시를 미리 채움
+        List<Long> caseIds = new ArrayList<>();
+        for (long caseId = 1; caseId <= app.participations; caseId++) caseIds.add(caseId);
+        app.bean(CaseContentCache.class).getAll(caseIds);
+        List<Long> userIds = new ArrayList<>();
+        for (long userId = 1; userId <= app.users; userId++) userIds.add(userId);
+        app.bean(UserIdentityCache.class).getAll(userIds);
+    }
+
+    // 스레드별 SQL 문장 수 / 호출 수 합계
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Statements {
+        public long statements;
+        public long calls;
+    }
+
+    // 호출마다 조작할 사건 (참여 레코드가 있는 사건 중 임의 선택, 범인/거짓 증거는 bench/seed.sql 규칙을 따름)
+    @State(Scope.Thread)
+    public static class Target {
+        long caseId;
+        long criminalId;
+        String description;
+
+        @Setup(Level.Invocation)
+        public void next(SeededApplication app) {
+            caseId = app.randomCaseId();
+            criminalId = 4 * (caseId % (app.users / 4)) + 1;
+            description = "{name} 이(가) 남긴 흔적 " + caseId + "-" + (4 + ThreadLocalRandom.current().nextInt(3));
+            app.bean(JdbcTemplate.class).update("UPDATE case_info SET status = ? WHERE case_id = ?",
+                    CaseStatus.REGISTERED.code(), caseId);
+        }
+    }
+
+    @Benchmark
+    public CaseInfo fabricate(Target target, Statements counter) {
+        QueryStats stats = QueryStats.begin();
+        try {
+            return caseService.handleCriminalAction(target.caseId, target.criminalId, target.description);
+        } finally {
+            QueryStats.end();
+            counter.statements += stats.statementCount();
+            counter.calls++;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package me.junyi.bench;
+
+import me.junyi.service.RankingService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 랭킹 조회 비용
+ * - sql*: ranking_*.sql 집계 쿼리 자체 (메모리 랭킹 적재/재적재 비용)
+ * - served*: 실제 엔드포인트가 사용하는 메모리 랭킹 첫 페이지 조회
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class RankingBenchmark {
+
+    private JdbcTemplate jdbcTemplate;
+    private RankingService rankingService;
+
+    private String detectivesSql;
+    private String culpritsSql;
+    private String clientsSql;
+    private String policeSql;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededApplication app) throws IOException {
+        jdbcTemplate = app.bean(JdbcTemplate.class);
+        rankingService = app.bean(RankingService.class);
+
+        detectivesSql = readSql("sql/ranking_detectives.sql");
+        culpritsSql = readSql("sql/ranking_culprits.sql");
+        clientsSql = readSql("sql/ranking_clients.sql");
+        policeSql = readSql("sql/ranking_police.sql");
+
+        rankingService.reload();
+    }
+
+    private static String readSql(String path) throws IOException {
+        return StreamUtils.copyToString(new ClassPathResource(path).getInputStream(), StandardCharsets.UTF_8).trim();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> sqlDetectives() {
+        return jdbcTemplate.queryForList(detectivesSql);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> sqlCulprits() {
+        return jdbcTemplate.queryForList(culpritsSql);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> sqlClients() {
+        return jdbcTemplate.queryForList(clientsSql);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> sqlPolice() {
+        return jdbcTemplate.queryForList(policeSql);
+    }
+
+    @Benchmark
+    public Object servedDetectives() {
+        return rankingService.getRanking(RankingService.DETECTIVE, null, 100).items();
+    }
+
+    @Benchmark
+    public Object servedCulprits() {
+        return rankingService.getRanking(RankingService.CULPRIT, null, 100).items();
+    }
+}
@@ -0,0 +1,44 @@
+package me.junyi.bench;
+
+import me.junyi.repository.ScoreLedgerRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 점수 변경 경로 (app_user.score 증가 - score_log는 ScoreLogWriter가 백그라운드에서 배치로 기록)
+ * 경찰 배정/추리 결과처럼 한 요청에서 두 명의 점수를 바꾸는 경우를 단건 2회와 배치 1회로 비교합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ScoreUpdateBenchmark {
+
+    private ScoreLedgerRepository scoreLedgerRepository;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededApplication app) {
+        scoreLedgerRepository = app.bean(ScoreLedgerRepository.class);
+    }
+
+    @Benchmark
+    public int singleUpdate(SeededApplication app) {
+        return scoreLedgerRepository.apply(app.randomDetectiveId(), app.randomCaseId(), 1, "벤치마크");
+    }
+
+    @Benchmark
+    public void twoSingleUpdates(SeededApplication app) {
+        long caseId = app.randomCaseId();
+        scoreLedgerRepository.apply(app.randomPoliceId(), caseId, 2, "벤치마크");
+        scoreLedgerRepository.apply(app.randomDetectiveId(), caseId, 1, "벤치마크");
+    }
+
+    @Benchmark
+    public void batchedUpdate(SeededApplication app) {
+        long caseId = app.randomCaseId();
+        scoreLedgerRepository.batch()
+                .add(app.randomPoliceId(), caseId, 2, "벤치마크")
+                .add(app.randomDetectiveId(), caseId, 1, "벤치마크")
+                .flush();
+    }
+}
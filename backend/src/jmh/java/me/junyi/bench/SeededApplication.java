@@ -0,0 +1,126 @@
+package me.junyi.bench;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import me.junyi.Main;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.util.StreamUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 벤치마크 공용 상태
+ * 내장 PostgreSQL을 띄워 bench/schema.sql + bench/seed.sql로 데이터를 만든 뒤,
+ * 그 DB를 바라보는 스프링 컨텍스트(웹 서버 없이)를 시작합니다.
+ * 데이터 양은 JMH 파라미터로 조정합니다. (예: ./gradlew jmh -Pjmh.users=20000 -Pjmh.cases=100000)
+ */
+@State(Scope.Benchmark)
+public class SeededApplication {
+
+    @Param({"1000"})
+    public int users;
+
+    @Param({"5000"})
+    public int cases;
+
+    // 사건당 참여 레코드는 최대 1건이므로 cases 이하로 보정됩니다.
+    @Param({"5000"})
+    public int participations;
+
+    private EmbeddedPostgres postgres;
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException, SQLException {
+        if (users < 4) {
+            throw new IllegalArgumentException("users는 역할 수(4) 이상이어야 합니다.");
+        }
+        participations = Math.min(participations, cases);
+
+        postgres = EmbeddedPostgres.builder().start();
+        DataSource dataSource = postgres.getPostgresDatabase();
+        try (Connection connection = dataSource.getConnection()) {
+            // 한글 리터럴이 포함되어 있으므로 플랫폼 기본 인코딩과 무관하게 UTF-8로 읽음
+            ScriptUtils.executeSqlScript(connection,
+                    new EncodedResource(new ClassPathResource("bench/schema.sql"), StandardCharsets.UTF_8));
+            ScriptUtils.executeSqlScript(connection, new EncodedResource(seedScript(), StandardCharsets.UTF_8));
+        }
+
+        // application.properties 보다 우선하도록 커맨드라인 인자로 전달
+        context = new SpringApplicationBuilder(Main.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                        "--spring.datasource.username=postgres",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN"
+                );
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws IOException {
+        if (context != null) context.close();
+        if (postgres != null) postgres.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    // user_id % 4 로 역할이 정해지므로 (bench/seed.sql 참고) 역할별 임의 사용자 id 선택
+    public long randomClientId() {
+        return randomUserOfRole(0);
+    }
+
+    public long randomCulpritId() {
+        return randomUserOfRole(1);
+    }
+
+    public long randomPoliceId() {
+        return randomUserOfRole(2);
+    }
+
+    public long randomDetectiveId() {
+        return randomUserOfRole(3);
+    }
+
+    public long randomCaseId() {
+        return 1 + ThreadLocalRandom.current().nextInt(participations);
+    }
+
+    // '결과 확인' 상태의 사건 (case_id % 5 = 4)
+    public long randomResolvedCaseId() {
+        return 5L * ThreadLocalRandom.current().nextInt(Math.max(1, (participations + 1) / 5)) + 4;
+    }
+
+    private long randomUserOfRole(int remainder) {
+        long k = ThreadLocalRandom.current().nextInt(users / 4);
+        return remainder == 0 ? 4 * (k + 1) : 4 * k + remainder; // user_id는 1부터 시작
+    }
+
+    private Resource seedScript() throws IOException {
+        String sql = StreamUtils.copyToString(new ClassPathResource("bench/seed.sql").getInputStream(), StandardCharsets.UTF_8)
+                .replace(":users", Integer.toString(users))
+                .replace(":cases", Integer.toString(cases))
+                .replace(":participations", Integer.toString(participations));
+        return new ByteArrayResource(sql.getBytes(StandardCharsets.UTF_8));
+    }
+}
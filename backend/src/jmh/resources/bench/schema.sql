@@ -0,0 +1,59 @@
+-- 벤치마크용 기본 스키마 (운영 DB의 V1 이전 상태와 동일한 형태)
+-- 이후 변경분은 애플리케이션 시작 시 Flyway 마이그레이션(db/migration)으로 적용됩니다.
+CREATE TABLE app_user (
+    user_id  BIGSERIAL PRIMARY KEY,
+    nickname VARCHAR(50) NOT NULL UNIQUE,
+    role     VARCHAR(10) NOT NULL,
+    score    INTEGER     NOT NULL DEFAULT 0
+);
+
+CREATE TABLE case_info (
+    case_id          BIGSERIAL PRIMARY KEY,
+    title            VARCHAR(200) NOT NULL,
+    content          TEXT,
+    difficulty       INTEGER      NOT NULL,
+    true_criminal_id BIGINT REFERENCES app_user (user_id),
+    status           VARCHAR(20)  NOT NULL
+);
+
+CREATE TABLE case_participation (
+    part_id                  BIGSERIAL PRIMARY KEY,
+    case_id                  BIGINT NOT NULL REFERENCES case_info (case_id),
+    client_id                BIGINT REFERENCES app_user (user_id),
+    criminal_id              BIGINT REFERENCES app_user (user_id),
+    police_id                BIGINT REFERENCES app_user (user_id),
+    detective_id             BIGINT REFERENCES app_user (user_id),
+    detective_guess_id       BIGINT REFERENCES app_user (user_id),
+    is_solved                BOOLEAN,
+    detective_guess_nickname VARCHAR(50)
+);
+
+CREATE TABLE case_suspect (
+    suspect_id   BIGSERIAL PRIMARY KEY,
+    case_id      BIGINT      NOT NULL REFERENCES case_info (case_id),
+    suspect_name VARCHAR(50) NOT NULL
+);
+
+CREATE TABLE original_evidence (
+    evidence_id       BIGSERIAL PRIMARY KEY,
+    case_id           BIGINT  NOT NULL REFERENCES case_info (case_id),
+    description       TEXT    NOT NULL,
+    is_true           BOOLEAN NOT NULL,
+    is_fake_candidate BOOLEAN NOT NULL
+);
+
+CREATE TABLE submitted_evidence (
+    submit_id            BIGSERIAL PRIMARY KEY,
+    case_id              BIGINT NOT NULL REFERENCES case_info (case_id),
+    evidence_description TEXT   NOT NULL,
+    is_true_evidence     BOOLEAN
+);
+
+CREATE TABLE score_log (
+    log_id       BIGSERIAL PRIMARY KEY,
+    user_id      BIGINT       NOT NULL REFERENCES app_user (user_id),
+    case_id      BIGINT,
+    score_change INTEGER      NOT NULL,
+    reason       VARCHAR(100),
+    log_time     TIMESTAMP    NOT NULL DEFAULT now()
+);
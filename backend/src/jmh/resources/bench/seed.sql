@@ -0,0 +1,48 @@
+-- 벤치마크 데이터 생성 (파라미터: :users, :cases, :participations)
+-- user_id % 4 = 0 의뢰인, 1 범인, 2 경찰, 3 탐정
+INSERT INTO app_user (nickname, role, score)
+SELECT 'user' || g,
+       (ARRAY['의뢰인', '범인', '경찰', '탐정'])[1 + g % 4],
+       (g * 37) % 500
+FROM generate_series(1, :users) g;
+
+-- 사건 상태는 case_id % 5 로 순환: 등록 → 조작 → 접수중 → 배정 → 결과 확인
+-- 참여 레코드가 없는 사건(case_id > :participations)은 항상 '등록'
+INSERT INTO case_info (title, content, difficulty, true_criminal_id, status)
+SELECT '사건 ' || g,
+       '사건 ' || g || ' 의 내용입니다.',
+       1 + g % 5,
+       CASE WHEN g <= :participations AND g % 5 <> 0 THEN 4 * (g % (:users / 4)) + 1 END,
+       CASE WHEN g > :participations THEN '등록'
+            ELSE (ARRAY['등록', '조작', '접수중', '배정', '결과 확인'])[1 + g % 5] END
+FROM generate_series(1, :cases) g;
+
+INSERT INTO case_participation (case_id, client_id, criminal_id, police_id, detective_id,
+                                detective_guess_id, is_solved, detective_guess_nickname)
+SELECT g,
+       4 * (1 + g % (:users / 4)),
+       CASE WHEN g % 5 >= 1 THEN 4 * (g % (:users / 4)) + 1 END,
+       CASE WHEN g % 5 >= 2 THEN 4 * (g % (:users / 4)) + 2 END,
+       CASE WHEN g % 5 >= 3 THEN 4 * (g % (:users / 4)) + 3 END,
+       CASE WHEN g % 5 = 4 THEN 4 * ((g + g % 2) % (:users / 4)) + 1 END,
+       CASE WHEN g % 5 = 4 THEN g % 2 = 0 END,
+       CASE WHEN g % 5 = 4 THEN 'user' || (4 * ((g + g % 2) % (:users / 4)) + 1) END
+FROM generate_series(1, :participations) g;
+
+INSERT INTO case_suspect (case_id, suspect_name)
+SELECT c, '용의자 ' || c || '-' || s
+FROM generate_series(1, :cases) c, generate_series(1, 3) s;
+
+INSERT INTO original_evidence (case_id, description, is_true, is_fake_candidate)
+SELECT c,
+       CASE WHEN e <= 3 THEN '진짜 증거 ' || c || '-' || e ELSE '{name} 이(가) 남긴 흔적 ' || c || '-' || e END,
+       e <= 3,
+       e > 3
+FROM generate_series(1, :cases) c, generate_series(1, 6) e;
+
+INSERT INTO submitted_evidence (case_id, evidence_description, is_true_evidence)
+SELECT c, '제출 증거 ' || c || '-' || e, e <= 3
+FROM generate_series(1, :participations) c, generate_series(1, 4) e
+WHERE c % 5 >= 1;
+
+ANALYZE;
@@ -0,0 +1,86 @@
+package me.junyi.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+// 비동기 작업 설정
+// 실행기 빈(readFanOutExecutor)을 직접 등록하면 스프링 부트는 기본 실행기(applicationTaskExecutor)를 만들지 않으므로,
+// 같은 이름의 실행기를 부트의 빌더(spring.task.execution.* 설정)로 여기서 직접 등록합니다.
+// @Async 작업과 MVC 비동기 응답(StreamingResponseBody, SseEmitter)은 이 실행기에서 실행됩니다. (@Async 는 이름으로 지정)
+// 기본은 플랫폼 스레드 풀이고, virtual-threads 프로필(spring.threads.virtual.enabled=true)에서는 두 실행기 모두 가상 스레드입니다.
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String APPLICATION_TASK_EXECUTOR = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME;
+    public static final String READ_FAN_OUT_EXECUTOR = "readFanOutExecutor";
+
+    private final boolean virtualThreads;
+
+    public AsyncConfig(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    // Java 17에서는 스프링 부트가 설정을 조용히 무시하므로, 가상 스레드 모드를 켰는데 런타임이 낮으면 시작 시 실패시킴
+    @PostConstruct
+    public void checkRuntime() {
+        if (virtualThreads && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("가상 스레드 모드는 Java 21 이상에서만 실행할 수 있습니다. (현재: "
+                    + Runtime.version() + ")");
+        }
+    }
+
+    /**
+     * 기본 비동기 실행기 (@Async, MVC 비동기 응답)
+     * 부트 자동 설정과 같은 빌더를 쓰므로 spring.task.execution.pool.* / simple.* 설정과 가상 스레드 모드가 그대로 적용됩니다.
+     * @Async 가 이름 없이 찾는 taskExecutor 이름도 함께 등록합니다.
+     */
+    @Bean(name = {APPLICATION_TASK_EXECUTOR, AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public AsyncTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder threadPoolTaskExecutorBuilder,
+                                                     SimpleAsyncTaskExecutorBuilder simpleAsyncTaskExecutorBuilder) {
+        if (virtualThreads) {
+            return simpleAsyncTaskExecutorBuilder.build();
+        }
+        return threadPoolTaskExecutorBuilder.build();
+    }
+
+    /**
+     * 여러 조회를 동시에 실행하기 위한 실행기 (ReadFanOut)
+     * 동시에 실행되는 조회 수를 app.fan-out.max-concurrency로 제한해 커넥션 풀을 다 쓰지 않도록 합니다.
+     * 플랫폼 스레드 모드에서는 고정 크기 풀(대기열이 차면 즉시 거절), 가상 스레드 모드에서는 동시 실행 수만 제한합니다.
+     * 조회가 실행되는 스레드에도 요청의 SQL 통계(QueryStats)가 이어지도록 작업을 감쌉니다.
+     */
+    @Bean(name = READ_FAN_OUT_EXECUTOR)
+    public AsyncTaskExecutor readFanOutExecutor(@Value("${app.fan-out.max-concurrency:16}") int maxConcurrency,
+                                                @Value("${app.fan-out.queue-capacity:200}") int queueCapacity) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("read-fan-out-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(maxConcurrency);
+            executor.setTaskDecorator(QueryStats::propagate);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("read-fan-out-");
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setTaskDecorator(QueryStats::propagate);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,18 @@
+package me.junyi.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Jackson 설정
+// Blackbird 모듈은 리플렉션 대신 LambdaMetafactory로 만든 접근자를 사용해 요청/응답 (역)직렬화를 빠르게 합니다.
+// 스프링 부트가 Module 빈을 ObjectMapper에 자동 등록합니다.
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
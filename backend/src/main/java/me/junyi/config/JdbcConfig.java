@@ -0,0 +1,55 @@
+package me.junyi.config;
+
+import me.junyi.domain.CaseStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.CustomConversions;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.jdbc.core.convert.JdbcCustomConversions;
+import org.springframework.data.jdbc.core.mapping.JdbcSimpleTypes;
+import org.springframework.data.jdbc.core.mapping.JdbcValue;
+import org.springframework.data.mapping.model.SimpleTypeHolder;
+import org.springframework.data.relational.core.dialect.Dialect;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.List;
+
+// Spring Data JDBC 설정
+// 사건 상태(CaseStatus)는 enum 이름 문자열 대신 smallint 코드로 저장합니다. (case_info.status 인덱스를 작게 유지)
+// 변환기만 JdbcCustomConversions 빈으로 등록하고, 나머지 빈은 스프링 부트의 기본 JDBC 설정을 그대로 씁니다.
+@Configuration
+public class JdbcConfig {
+
+    // 부트 기본값과 같이 DB 방언(dialect)의 변환기와 단순 타입을 유지한 채 사용자 변환기를 추가
+    @Bean
+    public JdbcCustomConversions jdbcCustomConversions(Dialect dialect) {
+        SimpleTypeHolder simpleTypes = dialect.simpleTypes().isEmpty()
+                ? JdbcSimpleTypes.HOLDER
+                : new SimpleTypeHolder(dialect.simpleTypes(), JdbcSimpleTypes.HOLDER);
+        List<Object> storeConverters = new ArrayList<>(dialect.getConverters());
+        storeConverters.addAll(JdbcCustomConversions.storeConverters());
+
+        return new JdbcCustomConversions(CustomConversions.StoreConversions.of(simpleTypes, storeConverters),
+                List.of(new CaseStatusWriter(), new CaseStatusReader()));
+    }
+
+    // 파생 쿼리(findAllByStatus...)는 enum 컬럼을 VARCHAR로 바인딩하므로 SQL 타입까지 지정해서 넘김
+    @WritingConverter
+    static class CaseStatusWriter implements Converter<CaseStatus, JdbcValue> {
+        @Override
+        public JdbcValue convert(CaseStatus status) {
+            return JdbcValue.of(status.code(), JDBCType.SMALLINT);
+        }
+    }
+
+    @ReadingConverter
+    static class CaseStatusReader implements Converter<Number, CaseStatus> {
+        @Override
+        public CaseStatus convert(Number code) {
+            return CaseStatus.fromCode(code.intValue());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package me.junyi.config;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * HTTP 요청 1건 동안 실행된 SQL 통계
+ * QueryStatsFilter가 요청 시작 시 현재 스레드에 연결하고, 계측된 DataSource가 문장 실행마다 기록합니다.
+ * 같은 형태(fingerprint)의 문장이 반복되면 N+1 조회로 봅니다.
+ */
+public final class QueryStats {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    // 리터럴/공백 차이만 있는 문장은 같은 fingerprint로 묶음
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(\\.\\d+)?\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+    private final Map<String, LongAdder> countsByFingerprint = new ConcurrentHashMap<>();
+
+    /** 현재 스레드에 새 통계 연결 */
+    public static QueryStats begin() {
+        QueryStats stats = new QueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /** 현재 스레드의 통계 (요청 밖에서 실행되면 null) */
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /** 다른 스레드에서 실행하는 작업이 같은 요청의 통계에 기록되도록 연결 */
+    public static Runnable propagate(Runnable task) {
+        QueryStats stats = current();
+        if (stats == null) return task;
+        return () -> {
+            QueryStats previous = CURRENT.get();
+            CURRENT.set(stats);
+            try {
+                task.run();
+            } finally {
+                if (previous != null) CURRENT.set(previous); else CURRENT.remove();
+            }
+        };
+    }
+
+    void record(String sql, long elapsedNanos) {
+        statements.increment();
+        nanos.add(elapsedNanos);
+        countsByFingerprint.computeIfAbsent(fingerprint(sql), k -> new LongAdder()).increment();
+    }
+
+    public long statementCount() {
+        return statements.sum();
+    }
+
+    public long totalNanos() {
+        return nanos.sum();
+    }
+
+    /** 첫 실행을 제외한 반복 실행 수의 합 (N+1 조회가 없으면 0) */
+    public long repeatedCount() {
+        return countsByFingerprint.values().stream()
+                .mapToLong(LongAdder::sum)
+                .filter(count -> count > 1)
+                .map(count -> count - 1)
+                .sum();
+    }
+
+    /** 2회 이상 실행된 문장을 실행 횟수 내림차순으로 */
+    public List<Map.Entry<String, Long>> repeatedStatements() {
+        return countsByFingerprint.entrySet().stream()
+                .map(e -> Map.entry(e.getKey(), e.getValue().sum()))
+                .filter(e -> e.getValue() > 1)
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .toList();
+    }
+
+    static String fingerprint(String sql) {
+        if (sql == null) return "";
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,105 @@
+package me.junyi.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// DataSource 계측 설정
+// 애플리케이션의 DataSource를 감싸 JdbcTemplate / Spring Data JDBC / Flyway가 실행하는 모든 문장을
+// 현재 요청의 QueryStats에 기록합니다. (요청 밖에서 실행되는 문장은 기록하지 않음)
+@Configuration
+public class QueryStatsDataSourceConfig {
+
+    @Bean
+    public static BeanPostProcessor queryStatsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof QueryStatsDataSource)) {
+                    return new QueryStatsDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    // 커넥션을 프록시로 감싸 Statement 생성 시점의 SQL을 기억
+    static class QueryStatsDataSource extends DelegatingDataSource {
+
+        QueryStatsDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return wrapConnection(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return wrapConnection(super.getConnection(username, password));
+        }
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement) {
+                // prepareStatement / prepareCall 은 첫 인자가 SQL, createStatement 는 실행 시점에 SQL 전달
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                return wrapStatement(statement, method.getReturnType(), sql);
+            }
+            return result;
+        };
+        return (Connection) Proxy.newProxyInstance(
+                QueryStatsDataSourceConfig.class.getClassLoader(), new Class<?>[] {Connection.class}, handler);
+    }
+
+    private static Object wrapStatement(Statement statement, Class<?> type, String preparedSql) {
+        InvocationHandler handler = new InvocationHandler() {
+            // Statement.addBatch(sql) 로 쌓인 마지막 문장 (배치 실행 시 fingerprint 용)
+            private String batchSql = preparedSql;
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                String name = method.getName();
+                if ("addBatch".equals(name) && args != null && args.length > 0 && args[0] instanceof String s) {
+                    batchSql = s;
+                }
+
+                QueryStats stats = QueryStats.current();
+                if (stats == null || !name.startsWith("execute")) {
+                    return QueryStatsDataSourceConfig.invoke(statement, method, args);
+                }
+
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : batchSql;
+                long start = System.nanoTime();
+                try {
+                    return QueryStatsDataSourceConfig.invoke(statement, method, args);
+                } finally {
+                    stats.record(sql, System.nanoTime() - start);
+                }
+            }
+        };
+        return Proxy.newProxyInstance(
+                QueryStatsDataSourceConfig.class.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
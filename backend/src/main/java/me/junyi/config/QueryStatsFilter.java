@@ -0,0 +1,150 @@
+package me.junyi.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 요청별 SQL 실행 통계 필터
+// 요청마다 실행 문장 수 / DB 시간 / 반복 문장 수를 Micrometer 메트릭으로 남기고,
+// 문장 수가 예산(app.query-stats.statement-budget)을 넘으면 반복된 문장과 함께 경고 로그를 남깁니다.
+// app.query-stats.debug-header=true 이면 응답에 X-Sql-Stats 헤더를 붙입니다.
+@Slf4j
+@Component
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    public static final String STATS_HEADER = "X-Sql-Stats";
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+    private final boolean debugHeader;
+
+    public QueryStatsFilter(MeterRegistry meterRegistry,
+                            @Value("${app.query-stats.statement-budget:20}") int statementBudget,
+                            @Value("${app.query-stats.debug-header:false}") boolean debugHeader) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+        this.debugHeader = debugHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryStats stats = QueryStats.begin();
+        try {
+            chain.doFilter(request, debugHeader ? new StatsHeaderResponse(response, stats) : response);
+        } finally {
+            QueryStats.end();
+            report(request, response, stats);
+        }
+    }
+
+    private void report(HttpServletRequest request, HttpServletResponse response, QueryStats stats) {
+        // 경로 변수가 치환되기 전의 매핑 패턴으로 태깅 (/api/cases/client/{clientId})
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        DistributionSummary.builder("app.request.sql.statements")
+                .description("요청 1건당 실행된 SQL 문장 수")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(stats.statementCount());
+        Timer.builder("app.request.sql.time")
+                .description("요청 1건당 SQL 실행 시간 합계")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(stats.totalNanos(), TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("app.request.sql.repeated")
+                .description("요청 1건당 같은 형태로 반복 실행된 SQL 문장 수 (N+1)")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(stats.repeatedCount());
+
+        if (stats.statementCount() > statementBudget) {
+            Counter.builder("app.request.sql.budget.exceeded")
+                    .description("SQL 문장 수 예산을 넘은 요청 수")
+                    .tags("method", method, "uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+
+            String repeated = stats.repeatedStatements().stream()
+                    .limit(3)
+                    .map(e -> e.getValue() + "x " + e.getKey())
+                    .collect(Collectors.joining(" | "));
+            log.warn("SQL 문장 수 예산 초과: {} {} (status={}) statements={} budget={} time={}ms repeated=[{}]",
+                    method, request.getRequestURI(), response.getStatus(), stats.statementCount(), statementBudget,
+                    TimeUnit.NANOSECONDS.toMillis(stats.totalNanos()), repeated);
+        }
+    }
+
+    static String headerValue(QueryStats stats) {
+        return String.format("statements=%d; time=%.1fms; repeated=%d",
+                stats.statementCount(), stats.totalNanos() / 1_000_000.0, stats.repeatedCount());
+    }
+
+    // 본문을 쓰기 직전(= 컨트롤러의 조회가 끝난 시점)에 헤더를 붙이는 응답 래퍼
+    // 본문을 버퍼링하지 않으므로 SSE 같은 스트리밍 응답에도 그대로 사용할 수 있습니다.
+    private static class StatsHeaderResponse extends HttpServletResponseWrapper {
+
+        private final QueryStats stats;
+        private boolean headerWritten = false;
+
+        StatsHeaderResponse(HttpServletResponse response, QueryStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        private void writeHeader() {
+            if (headerWritten || isCommitted()) return;
+            headerWritten = true;
+            setHeader(STATS_HEADER, headerValue(stats));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader();
+            super.sendError(sc);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package me.junyi.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 주기 작업(@Scheduled) 설정 - 스프링 부트의 기본 스케줄러(taskScheduler)에서 실행됩니다.
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
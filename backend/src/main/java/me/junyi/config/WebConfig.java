@@ -1,6 +1,8 @@
 package me.junyi.config;
 
+import me.junyi.dto.CursorPage;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -13,6 +15,7 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOrigins("http://localhost:3000") // 🚨 React 앱이 실행되는 주소 (Port)
                 .allowedMethods("*") // 허용할 HTTP 메서드
                 .allowedHeaders("*") // 모든 헤더 허용
+                .exposedHeaders(CursorPage.NEXT_CURSOR_HEADER, QueryStatsFilter.STATS_HEADER, IdempotencyFilter.REPLAYED_HEADER, HttpHeaders.ETAG) // 다음 페이지 커서 / SQL 통계(디버그) / 재생된 응답 여부 / 목록 ETag를 프론트에서 읽을 수 있도록 노출
                 .allowCredentials(true); // 쿠키 및 인증 정보 허용
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+package me.junyi.controller;
+
+import me.junyi.dto.ScoreReconcileResultDto;
+import me.junyi.repository.RankingSnapshotRepository.Snapshot;
+import me.junyi.service.CaseContentCache;
+import me.junyi.service.ChangeVersions;
+import me.junyi.service.RankingSnapshotService;
+import me.junyi.service.ScoreLogArchiver;
+import me.junyi.service.ScoreReconciler;
+import me.junyi.service.UserIdentityCache;
+import me.junyi.service.UserRoleStatsRebuilder;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+    // 운영용 엔드포인트 (캐시 무효화 등)
+    private final CaseContentCache caseContentCache;
+    private final UserIdentityCache userIdentityCache;
+    private final ScoreLogArchiver scoreLogArchiver;
+    private final UserRoleStatsRebuilder userRoleStatsRebuilder;
+    private final RankingSnapshotService rankingSnapshotService;
+    private final ScoreReconciler scoreReconciler;
+    private final ChangeVersions changeVersions;
+
+    public AdminController(CaseContentCache caseContentCache, UserIdentityCache userIdentityCache,
+                           ScoreLogArchiver scoreLogArchiver, UserRoleStatsRebuilder userRoleStatsRebuilder,
+                           RankingSnapshotService rankingSnapshotService, ScoreReconciler scoreReconciler,
+                           ChangeVersions changeVersions) {
+        this.caseContentCache = caseContentCache;
+        this.userIdentityCache = userIdentityCache;
+        this.scoreLogArchiver = scoreLogArchiver;
+        this.userRoleStatsRebuilder = userRoleStatsRebuilder;
+        this.rankingSnapshotService = rankingSnapshotService;
+        this.scoreReconciler = scoreReconciler;
+        this.changeVersions = changeVersions;
+    }
+
+    // 캐시를 비우면 목록/랭킹 응답 본문도 바뀌므로 ETag 버전도 함께 변경 (이전 ETag로는 304가 나지 않음)
+
+    // 사건 본문(제목/내용/난이도, 원본 증거, 용의자)을 다시 작성한 뒤 해당 사건의 캐시 비우기
+    @DeleteMapping("/cache/case-content/{caseId}")
+    public ResponseEntity<Map<String, Object>> invalidateCaseContent(@PathVariable Long caseId) {
+        caseContentCache.invalidate(caseId);
+        changeVersions.touchAll();
+        return ResponseEntity.ok(Map.of("invalidated", caseId));
+    }
+
+    // 사건 본문 캐시 전체 비우기
+    @DeleteMapping("/cache/case-content")
+    public ResponseEntity<Map<String, Object>> invalidateAllCaseContent() {
+        caseContentCache.invalidateAll();
+        changeVersions.touchAll();
+        return ResponseEntity.ok(Map.of("invalidated", "all"));
+    }
+
+    // 사용자 닉네임을 변경한 뒤 해당 사용자의 id <-> 닉네임 캐시 비우기
+    @DeleteMapping("/cache/user-identity/{userId}")
+    public ResponseEntity<Map<String, Object>> invalidateUserIdentity(@PathVariable Long userId) {
+        userIdentityCache.invalidate(userId);
+        changeVersions.touchAll();
+        return ResponseEntity.ok(Map.of("invalidated", userId));
+    }
+
+    // 점수 기록 파티션 정리를 예약 시각(app.score-log.archive-cron)을 기다리지 않고 바로 실행
+    @PostMapping("/score-log/archive")
+    public ResponseEntity<Map<String, Object>> archiveScoreLog() {
+        scoreLogArchiver.ensurePartitions();
+        List<LocalDate> archived = scoreLogArchiver.archiveExpired();
+        return ResponseEntity.ok(Map.of("archivedMonths", archived));
+    }
+
+    // 역할별 통계(user_role_stats)를 case_participation에서 다시 계산하고 메모리 랭킹 재적재
+    @PostMapping("/ranking/stats/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildRankingStats() {
+        int rows = userRoleStatsRebuilder.rebuild();
+        return ResponseEntity.ok(Map.of("rebuiltRows", rows));
+    }
+
+    // 시즌 시작 등 예약 시각(app.ranking.snapshot.cron) 외에 랭킹 스냅샷을 바로 기록
+    @PostMapping("/ranking/snapshot")
+    public ResponseEntity<Map<String, Object>> takeRankingSnapshot() {
+        Snapshot snapshot = rankingSnapshotService.takeSnapshot();
+        return ResponseEntity.ok(Map.of("snapshotId", snapshot.snapshotId(), "takenAt", snapshot.takenAt()));
+    }
+
+    // 전체 사용자 점수를 score_log(+ 일 요약) 합계와 비교 - apply=true 이면 다른 점수를 기록 합계로 보정
+    @PostMapping("/scores/reconcile")
+    public ResponseEntity<ScoreReconcileResultDto> reconcileScores(@RequestParam(defaultValue = "false") boolean apply) {
+        return ResponseEntity.ok(scoreReconciler.reconcile(apply));
+    }
+}
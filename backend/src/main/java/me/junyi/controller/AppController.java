@@ -1,6 +1,8 @@
 package me.junyi.controller;
 
+import jakarta.validation.Valid;
 import me.junyi.domain.AppUser;
+import me.junyi.dto.StartCaseRequest;
 import me.junyi.service.UserService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -36,17 +38,10 @@ public class AppController {
     // 2. 사건 의뢰 시작
     // URL: POST /api/case/start
     @PostMapping("/case/start")
-    public ResponseEntity<?> startCase(@RequestBody Map<String, Long> request) {
-        Long clientId = request.get("clientId");
-        Long caseId = request.get("caseId");
-
-        if (clientId == null || caseId == null) {
-            return ResponseEntity.badRequest().body(Map.of("error", "ID는 필수입니다."));
-        }
-
+    public ResponseEntity<?> startCase(@Valid @RequestBody StartCaseRequest request) {
         try {
-            AppUser updatedClient = userService.startCase(clientId, caseId);
-            return ResponseEntity.ok(Map.of("message", "사건 등록 성공", "newScore", updatedClient.getScore()));
+            int newScore = userService.startCase(request.clientId(), request.caseId());
+            return ResponseEntity.ok(Map.of("message", "사건 등록 성공", "newScore", newScore));
         } catch (Exception e) {
             return ResponseEntity.internalServerError().body(Map.of("error", "DB 처리 중 오류: " + e.getMessage()));
         }
@@ -4,12 +4,20 @@ import me.junyi.domain.CaseInfo;
 import me.junyi.domain.OriginalEvidence;
 import me.junyi.domain.SubmittedEvidence;
 import me.junyi.dto.*;
+import me.junyi.service.CaseEventService;
 import me.junyi.service.CaseService;
+import me.junyi.service.ChangeVersions;
 import me.junyi.repository.CaseInfoRepository;
 
+import jakarta.validation.Valid;
+
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -19,17 +27,35 @@ import java.util.Map;
 public class CaseController {
 
     private final CaseService caseService;
+    private final CaseEventService caseEventService;
     private final CaseInfoRepository caseInfoRepository;
+    private final ChangeVersions changeVersions;
 
-    public CaseController(CaseService caseService, CaseInfoRepository caseInfoRepository) {
+    public CaseController(CaseService caseService, CaseEventService caseEventService, CaseInfoRepository caseInfoRepository,
+                          ChangeVersions changeVersions) {
         this.caseService = caseService;
+        this.caseEventService = caseEventService;
         this.caseInfoRepository = caseInfoRepository;
+        this.changeVersions = changeVersions;
+    }
+
+    // 0. 사건 상태 변경 구독 (SSE) - 내가 참여한 사건과 내 역할의 공용 목록 변경을 'case-status' 이벤트로 수신
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCaseStatus(@RequestParam Long userId, @RequestParam String role) {
+        return caseEventService.subscribe(userId, role);
     }
 
+    // 목록 조회는 keyset 페이지: ?after=<이전 응답의 X-Next-Cursor>&size=N (둘 다 없으면 전체 목록)
+    // 대시보드 목록(1, 6, 13)은 ETag를 내려주고, If-None-Match가 같으면 조회 없이 304 (본문 없음)
+
     // 1. 등록 상태 사건 목록
     @GetMapping("/available")
-    public List<CaseInfo> getAvailableCases() {
-        return caseService.getAvailableCases();
+    public ResponseEntity<List<CaseInfo>> getAvailableCases(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        if (request.checkNotModified(changeVersions.caseListTag())) return null;
+        return caseService.getAvailableCases(after, size).toResponse();
     }
 
     // 2. 범인 - 내가 참여한 사건 목록 (MyCaseDto)
@@ -40,27 +66,20 @@ public class CaseController {
 
     // 3. 범인 - 증거 조작 API
     @PostMapping("/fabricate")
-    public ResponseEntity<?> fabricateEvidence(@RequestBody Map<String, Object> request) {
-
-        Long caseId = ((Number) request.get("caseId")).longValue();
-        Long criminalId = ((Number) request.get("criminalId")).longValue();
+    public ResponseEntity<?> fabricateEvidence(@Valid @RequestBody FabricateRequest request) {
 
-        List<String> fakeEvidenceList = (List<String>) request.get("fakeEvidence");
-        if (fakeEvidenceList == null || fakeEvidenceList.isEmpty()) {
-            return ResponseEntity.badRequest()
-                    .body(Map.of("error", "증거가 선택되지 않았습니다."));
-        }
-
-        String fakeEvidenceDescription = fakeEvidenceList.get(0);
+        String fakeEvidenceDescription = request.fakeEvidence().get(0);
 
         try {
             CaseInfo updatedCase = caseService.handleCriminalAction(
-                    caseId, criminalId, fakeEvidenceDescription);
+                    request.caseId(), request.criminalId(), fakeEvidenceDescription);
 
             return ResponseEntity.ok(Map.of(
                     "message", "증거 조작 성공",
                     "newStatus", updatedCase.getStatus()
             ));
+        } catch (OptimisticLockingFailureException e) {
+            return conflict(e);
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
                     .body(Map.of("error", e.getMessage()));
@@ -69,14 +88,13 @@ public class CaseController {
 
     // 4. 경찰 - 탐정 배정
     @PostMapping("/assign")
-    public ResponseEntity<?> assignDetective(@RequestBody Map<String, Long> request) {
-        Long caseId = request.get("caseId");
-        Long policeId = request.get("policeId");
-        Long detectiveId = request.get("detectiveId");
-
+    public ResponseEntity<?> assignDetective(@Valid @RequestBody AssignDetectiveRequest request) {
         try {
-            CaseInfo updatedCase = caseService.handlePoliceAssignment(caseId, policeId, detectiveId);
+            CaseInfo updatedCase = caseService.handlePoliceAssignment(
+                    request.caseId(), request.policeId(), request.detectiveId());
             return ResponseEntity.ok(Map.of("newStatus", updatedCase.getStatus()));
+        } catch (OptimisticLockingFailureException e) {
+            return conflict(e);
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
                     .body(Map.of("error", e.getMessage()));
@@ -86,21 +104,28 @@ public class CaseController {
     // 5. 경찰 - 배정 대기 사건 조회
     @GetMapping("/police/pending/{policeId}")
     public List<PendingCaseDto> getPendingCases(@PathVariable Long policeId) {
-        return caseService.getPendingCasesForPoliceFull();
+        return caseService.getPendingCasesForPolice(policeId);
     }
 
 
 
     // 6. 의뢰인 - 참여 사건 조회
     @GetMapping("/client/{userId}")
-    public List<CaseClientDto> getCasesByClient(@PathVariable Long userId) {
-        return caseService.getCasesByClientId(userId);
+    public ResponseEntity<List<CaseClientDto>> getCasesByClient(
+            @PathVariable Long userId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        if (request.checkNotModified(changeVersions.userCasesTag(userId))) return null;
+        return caseService.getCasesByClientId(userId, after, size).toResponse();
     }
 
     // 7. 범인 - 참여 가능한 사건 목록
     @GetMapping("/culprit/available")
-    public List<AvailableCaseDto> getAvailableCasesForCulprit() {
-        return caseService.getAvailableCasesForCulprit();
+    public ResponseEntity<List<AvailableCaseDto>> getAvailableCasesForCulprit(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer size) {
+        return caseService.getAvailableCasesForCulprit(after, size).toResponse();
     }
 
 
@@ -118,17 +143,12 @@ public class CaseController {
 
     // 9
     @PostMapping("/culprit/join")
-    public ResponseEntity<?> joinCaseAsCulprit(@RequestBody Map<String, Long> request) {
-        Long caseId = request.get("caseId");
-        Long culpritId = request.get("culpritId");
-
-        if (caseId == null || culpritId == null) {
-            return ResponseEntity.badRequest().body(Map.of("error", "Case ID와 Culprit ID는 필수입니다."));
-        }
-
+    public ResponseEntity<?> joinCaseAsCulprit(@Valid @RequestBody JoinCulpritRequest request) {
         try {
-            caseService.handleJoinCulprit(caseId, culpritId);
+            caseService.handleJoinCulprit(request.caseId(), request.culpritId());
             return ResponseEntity.ok(Map.of("message", "범인으로 사건에 참여했습니다."));
+        } catch (OptimisticLockingFailureException e) {
+            return conflict(e);
         } catch (IllegalArgumentException | IllegalStateException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
@@ -138,17 +158,12 @@ public class CaseController {
 
     // 10
     @PostMapping("/police/accept")
-    public ResponseEntity<?> acceptCase(@RequestBody Map<String, Long> request) {
-        Long caseId = request.get("caseId");
-        Long policeId = request.get("policeId");
-
-        if (caseId == null || policeId == null) {
-            return ResponseEntity.badRequest().body(Map.of("error", "caseId와 policeId는 필수입니다."));
-        }
-
+    public ResponseEntity<?> acceptCase(@Valid @RequestBody PoliceAcceptRequest request) {
         try {
-            CaseInfo updatedCase = caseService.handlePoliceAccept(caseId, policeId);
+            CaseInfo updatedCase = caseService.handlePoliceAccept(request.caseId(), request.policeId());
             return ResponseEntity.ok(Map.of("newStatus", updatedCase.getStatus()));
+        } catch (OptimisticLockingFailureException e) {
+            return conflict(e);
         } catch (Exception e) {
             return ResponseEntity.internalServerError().body(Map.of("error", e.getMessage()));
         }
@@ -156,41 +171,40 @@ public class CaseController {
     
     // 11. 내가 맡은 사건
     @GetMapping("/police/my/{policeId}")
-    public List<PendingCaseDto> getMyCases(@PathVariable Long policeId) {
-        return caseService.getMyPoliceCases(policeId);
+    public ResponseEntity<List<PendingCaseDto>> getMyCases(
+            @PathVariable Long policeId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer size) {
+        return caseService.getMyPoliceCases(policeId, after, size).toResponse();
     }
 
 
     // 12
     @GetMapping("/detective/{userId}")
-    public List<CaseDetectiveDto> getAssignedCasesForDetective(@PathVariable Long userId) {
-        return caseService.getAssignedCasesByDetectiveId(userId);
+    public ResponseEntity<List<CaseDetectiveDto>> getAssignedCasesForDetective(
+            @PathVariable Long userId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer size) {
+        return caseService.getAssignedCasesByDetectiveId(userId, after, size).toResponse();
     }
 
     // 13
     @GetMapping("/detective/result/{userId}")
-    public List<CaseDetectiveDto> getCompletedCasesForDetective(@PathVariable Long userId) {
-        return caseService.getCompletedCasesByDetectiveId(userId);
+    public ResponseEntity<List<CaseDetectiveDto>> getCompletedCasesForDetective(
+            @PathVariable Long userId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        if (request.checkNotModified(changeVersions.userCasesTag(userId))) return null;
+        return caseService.getCompletedCasesByDetectiveId(userId, after, size).toResponse();
     }
 
     // 14. 사건 세부 정보 조회
     @GetMapping("/{caseId}/details")
     public ResponseEntity<Map<String, Object>> getCaseDetails(@PathVariable Long caseId) {
         try {
-            // 사건 정보 가져오기
-            CaseInfo caseInfo = caseService.getCaseInfoById(caseId);
-
-            // 제출된 증거 목록 가져오기
-            List<SubmittedEvidence> evidenceList = caseService.getSubmittedEvidenceForCase(caseId);
-
-            // 범인 이름 가져오기
-            String culpritName = caseService.getCulpritNameByCaseId(caseId);
-
-            // 반환할 데이터
-            Map<String, Object> response = Map.of(
-                    "culpritName", culpritName,
-                    "evidence", evidenceList
-            );
+            // 사건 정보 / 제출된 증거 목록 / 범인 이름을 동시에 조회
+            Map<String, Object> response = caseService.getCaseDetails(caseId);
 
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -200,19 +214,15 @@ public class CaseController {
 
     // ⭐ 15. 탐정 - 추리 제출 및 결과 처리 API
     @PostMapping("/detective/guess/{caseId}")
-    public ResponseEntity<?> submitDetectiveGuess(@PathVariable Long caseId, @RequestBody Map<String, Object> request) {
+    public ResponseEntity<?> submitDetectiveGuess(@PathVariable Long caseId, @Valid @RequestBody DetectiveGuessRequest request) {
 
-        Long detectiveId = ((Number) request.get("detectiveId")).longValue();
-        String culpritGuessNickname = (String) request.get("culpritGuessNickname"); // 프론트에서 받은 추측 닉네임
+        Long detectiveId = request.detectiveId();
+        String culpritGuessNickname = request.culpritGuessNickname(); // 프론트에서 받은 추측 닉네임
 
         // ✨ 디버깅
         System.out.println("DEBUG: Detective ID: " + detectiveId);
         System.out.println("DEBUG: Guess Nickname: " + culpritGuessNickname);
 
-        if (culpritGuessNickname == null) {
-            return ResponseEntity.badRequest().body(Map.of("error", "추리할 용의자 닉네임이 필요합니다."));
-        }
-
         try {
             // CaseService에 새로운 메서드를 호출하여 추리 제출과 결과 처리를 동시에 수행합니다.
             Map<String, Object> result = caseService.handleDetectiveGuessAndCheckResult(
@@ -223,6 +233,8 @@ public class CaseController {
 
             return ResponseEntity.ok(result);
 
+        } catch (OptimisticLockingFailureException e) {
+            return conflict(e);
         } catch (Exception e) {
             // 💡 이 부분을 수정하여 예외를 콘솔에 출력해야 합니다!
             e.printStackTrace(); // <-- 이 코드를 추가하거나 활성화하세요.
@@ -238,6 +250,13 @@ public class CaseController {
         return caseService.getCaseResult(caseId);
     }
 
+    // 다른 요청이 먼저 사건을 변경한 경우 (조건부 상태 전이 실패 / @Version 불일치) → 409
+    // 클라이언트는 목록을 다시 불러온 뒤 재시도하면 됩니다.
+    private static ResponseEntity<Map<String, String>> conflict(OptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("error", "다른 요청이 먼저 사건을 변경했습니다. 새로고침 후 다시 시도해 주세요."));
+    }
+
 
 
 
@@ -1,129 +1,198 @@
 package me.junyi.controller;
 
-import jakarta.annotation.PostConstruct;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.util.StreamUtils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import me.junyi.dto.CursorPage;
+import me.junyi.dto.RankingDto;
+import me.junyi.service.ChangeVersions;
+import me.junyi.service.RankingService;
+import me.junyi.service.RankingSnapshotService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 @RestController
 @RequestMapping("/api/ranking")
 public class RankingController {
-    private final JdbcTemplate jdbcTemplate;
-
-    @Value("classpath:sql/ranking_detectives.sql")
-    private Resource rankingDetectivesSqlFile;
-    private String rankingDetectivesSql;
-
-    @Value("classpath:sql/ranking_culprits.sql")
-    private Resource rankingCulpritsSqlFile;
-    private String rankingCulpritsSql;
-
-    @Value("classpath:sql/ranking_clients.sql")
-    private Resource rankingClientsSqlFile;
-    private String rankingClientsSql;
+    // 랭킹은 RankingService의 메모리 랭킹에서 바로 조회 (요청마다 집계 쿼리를 실행하지 않음)
+    // keyset 페이지: ?after=<이전 응답의 X-Next-Cursor>&size=N (둘 다 없으면 전체 목록)
+    // ?asOf=<ISO 시각> 이면 그 시점의 마지막 스냅샷을, ?deltaSince=<ISO 시각> 이면 그 시점 스냅샷 대비 순위/점수 변동을 함께 돌려줌
+    // 모든 조회는 역할별 랭킹 버전으로 만든 ETag를 내려주고, If-None-Match가 같으면 본문 없이 304
+    private final RankingService rankingService;
+    private final RankingSnapshotService rankingSnapshotService;
+    private final ObjectMapper objectMapper;
+    private final ChangeVersions changeVersions;
+
+    // 경로의 역할 이름 -> 랭킹 역할
+    private static final Map<String, String> ROLES_BY_PATH = Map.of(
+            "detectives", RankingService.DETECTIVE,
+            "culprits", RankingService.CULPRIT,
+            "clients", RankingService.CLIENT,
+            "police", RankingService.POLICE
+    );
+
+    public RankingController(RankingService rankingService, RankingSnapshotService rankingSnapshotService,
+                             ObjectMapper objectMapper, ChangeVersions changeVersions) {
+        this.rankingService = rankingService;
+        this.rankingSnapshotService = rankingSnapshotService;
+        this.objectMapper = objectMapper;
+        this.changeVersions = changeVersions;
+    }
 
-    @Value("classpath:sql/ranking_police.sql")
-    private Resource rankingPoliceSqlFile;
-    private String rankingPoliceSql;
+    // 탐정 목록 조회 (탐정 랭킹)
+    @GetMapping("/detectives")
+    public ResponseEntity<List<RankingDto>> getDetectives(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime deltaSince,
+            WebRequest request) {
+        return page(RankingService.DETECTIVE, after, size, asOf, deltaSince, request);
+    }
 
-    public RankingController(JdbcTemplate jdbcTemplate) {
-        this.jdbcTemplate = jdbcTemplate;
+    // 범인 목록 조회 (범인 랭킹)
+    @GetMapping("/culprits")
+    public ResponseEntity<List<RankingDto>> getCulprits(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime deltaSince,
+            WebRequest request) {
+        return page(RankingService.CULPRIT, after, size, asOf, deltaSince, request);
     }
 
-    @PostConstruct
-    public void loadSqlFiles() {
-        try {
-            this.rankingDetectivesSql = StreamUtils.copyToString(
-                    rankingDetectivesSqlFile.getInputStream(),
-                    StandardCharsets.UTF_8
-            ).trim();
-
-            this.rankingCulpritsSql = StreamUtils.copyToString(
-                    rankingCulpritsSqlFile.getInputStream(),
-                    StandardCharsets.UTF_8
-            ).trim();
-
-            this.rankingClientsSql = StreamUtils.copyToString(
-                    rankingClientsSqlFile.getInputStream(),
-                    StandardCharsets.UTF_8
-            ).trim();
-
-            this.rankingPoliceSql = StreamUtils.copyToString(
-                    rankingPoliceSqlFile.getInputStream(),
-                    StandardCharsets.UTF_8
-            ).trim();
-
-        } catch (IOException e) {
-            throw new RuntimeException("랭킹 SQL 파일을 로드하는 데 실패했습니다.", e);
-        }
+    // 의뢰인 목록 조회 (의뢰인 랭킹)
+    @GetMapping("/clients")
+    public ResponseEntity<List<RankingDto>> getClients(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime deltaSince,
+            WebRequest request) {
+        return page(RankingService.CLIENT, after, size, asOf, deltaSince, request);
     }
 
-    // 탐정 목록 조회 (탐정 랭킹)
-    @GetMapping("/detectives")
-    public List<Map<String, Object>> getDetectives() {
+    // 경찰 목록 조회 (경찰 랭킹)
+    @GetMapping("/police")
+    public ResponseEntity<List<RankingDto>> getPolice(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime deltaSince,
+            WebRequest request) {
+        return page(RankingService.POLICE, after, size, asOf, deltaSince, request);
+    }
 
-        String sql = this.rankingDetectivesSql;
+    // 역할별 상위 K명 - /api/ranking/detectives/top?k=10
+    @GetMapping("/{role}/top")
+    public List<RankingDto> getTop(
+            @PathVariable String role,
+            @RequestParam(defaultValue = "10") int k,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime deltaSince,
+            WebRequest request) {
+        String rankingRole = rankingRole(role);
+        if (notModified(rankingRole, request)) return null;
+        List<RankingDto> rows = asOf == null
+                ? rankingService.getTop(rankingRole, k)
+                : rankingSnapshotService.getTop(rankingRole, asOf, k);
+        return withDelta(rankingRole, rows, deltaSince);
+    }
 
-        List<Map<String, Object>> list = jdbcTemplate.queryForList(sql);
+    // 사용자 주변 순위 (앞뒤로 window명씩) - /api/ranking/detectives/around/3?window=5
+    @GetMapping("/{role}/around/{userId}")
+    public List<RankingDto> getAround(
+            @PathVariable String role,
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "5") int window,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime deltaSince,
+            WebRequest request) {
+        String rankingRole = rankingRole(role);
+        if (notModified(rankingRole, request)) return null;
+        List<RankingDto> rows = asOf == null
+                ? rankingService.getAround(rankingRole, userId, window)
+                : rankingSnapshotService.getAround(rankingRole, asOf, userId, window);
+        return withDelta(rankingRole, rows, deltaSince);
+    }
 
-        // 순위 계산
-        int rank = 1;
-        for (Map<String, Object> row : list) {
-            row.put("rank", rank++);
-        }
+    // 역할별 전체 랭킹 (페이지 없이 스트리밍) - /api/ranking/detectives/all
+    // 목록을 만들지 않고 순위 순서대로 한 행씩 JSON 배열에 바로 씁니다.
+    @GetMapping("/{role}/all")
+    public ResponseEntity<StreamingResponseBody> streamAll(@PathVariable String role, WebRequest request) {
+        String rankingRole = rankingRole(role);
+        if (notModified(rankingRole, request)) return null;
+
+        StreamingResponseBody body = out -> {
+            // 응답 스트림은 서블릿 컨테이너가 닫으므로 writer를 닫을 때 함께 닫지 않음
+            try (SequenceWriter writer = objectMapper.writerFor(RankingDto.class)
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .writeValuesAsArray(out)) {
+                rankingService.forEachRanked(rankingRole, row -> {
+                    try {
+                        writer.write(row);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
 
-        return list;
+    // 현재 랭킹 또는 asOf 스냅샷 페이지 (+ deltaSince 변동)
+    private ResponseEntity<List<RankingDto>> page(String role, String after, Integer size,
+                                                  LocalDateTime asOf, LocalDateTime deltaSince, WebRequest request) {
+        if (notModified(role, request)) return null;
+        CursorPage<RankingDto> page = asOf == null
+                ? rankingService.getRanking(role, after, size)
+                : rankingSnapshotService.getRanking(role, asOf, after, size);
+        withDelta(role, page.items(), deltaSince);
+        return page.toResponse();
     }
 
-    // 범인 목록 조회 (범인 랭킹)
-    @GetMapping("/culprits")
-    public List<Map<String, Object>> getCulprits() {
-        String sql = this.rankingCulpritsSql;
-        List<Map<String, Object>> list = jdbcTemplate.queryForList(sql);
-
-        // 순위 계산
-        int rank = 1;
-        for (Map<String, Object> row : list) {
-            row.put("rank", rank++);
+    private List<RankingDto> withDelta(String role, List<RankingDto> rows, LocalDateTime deltaSince) {
+        if (deltaSince != null) {
+            rankingSnapshotService.annotateDelta(role, deltaSince, rows);
         }
+        return rows;
+    }
 
-        return list;
+    // 랭킹 버전이 클라이언트의 If-None-Match와 같으면 304 (ETag 헤더는 200 응답에도 붙음)
+    private boolean notModified(String role, WebRequest request) {
+        return request.checkNotModified(changeVersions.rankingTag(role));
     }
 
-    // 의뢰인 목록 조회 (의뢰인 랭킹)
-    @GetMapping("/clients")
-    public List<Map<String, Object>> getClients() {
-        String sql = this.rankingClientsSql;
-        List<Map<String, Object>> list = jdbcTemplate.queryForList(sql);
-
-        // 순위 계산
-        int rank = 1;
-        for (Map<String, Object> row : list) {
-            row.put("rank", rank++);
+    private static String rankingRole(String role) {
+        String rankingRole = ROLES_BY_PATH.get(role);
+        if (rankingRole == null) {
+            throw new IllegalArgumentException("알 수 없는 랭킹 역할입니다: " + role);
         }
-
-        return list;
+        return rankingRole;
     }
 
-    // 경찰 목록 조회 (경찰 랭킹)
-    @GetMapping("/police")
-    public List<Map<String, Object>> getPolice() {
-        String sql = this.rankingPoliceSql;
-        List<Map<String, Object>> list = jdbcTemplate.queryForList(sql);
-
-        // 순위 계산
-        int rank = 1;
-        for (Map<String, Object> row : list) {
-            row.put("rank", rank++);
-        }
+    // 잘못된 커서 등 요청 값 오류는 400으로 응답
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
 
-        return list;
+    // 해당 역할 랭킹에 없는 사용자는 404로 응답
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<Map<String, String>> handleNotFound(NoSuchElementException e) {
+        return ResponseEntity.status(404).body(Map.of("error", e.getMessage()));
     }
 }
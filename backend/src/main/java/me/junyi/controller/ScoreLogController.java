@@ -0,0 +1,46 @@
+package me.junyi.controller;
+
+import me.junyi.dto.CursorPage;
+import me.junyi.dto.ScoreLogDailyDto;
+import me.junyi.dto.ScoreLogDto;
+import me.junyi.service.ScoreHistoryService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/users/{userId}/score-log")
+public class ScoreLogController {
+    // 사용자 점수 기록 조회 - keyset 페이지: ?after=<이전 응답의 X-Next-Cursor>&size=N
+    private final ScoreHistoryService scoreHistoryService;
+
+    public ScoreLogController(ScoreHistoryService scoreHistoryService) {
+        this.scoreHistoryService = scoreHistoryService;
+    }
+
+    // 원본 점수 기록 (최신 순, 보관 기간 app.score-log.retention-months 이내 - 이전 기록은 /daily)
+    @GetMapping
+    public ResponseEntity<List<ScoreLogDto>> getRecent(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_SIZE) int size) {
+        return scoreHistoryService.getRecent(userId, after, size).toResponse();
+    }
+
+    // 보관 기간이 지난 기록의 일별 요약 (최신 날짜 순)
+    @GetMapping("/daily")
+    public ResponseEntity<List<ScoreLogDailyDto>> getDaily(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_SIZE) int size) {
+        return scoreHistoryService.getDaily(userId, after, size).toResponse();
+    }
+
+    // 잘못된 커서 등 요청 값 오류는 400으로 응답
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+}
@@ -3,6 +3,7 @@ package me.junyi.domain;
 import lombok.Data;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Transient;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Table;
 
 @Data
@@ -16,6 +17,9 @@ public class CaseInfo {
     private String content;
     private Integer difficulty;
     private Long trueCriminalId;
-    private String status; // '등록', '조작', '배정' 등 워크플로우 상태
+    private CaseStatus status; // 워크플로우 상태 (DB에는 smallint 코드로 저장)
+
+    @Version
+    private Long version; // 낙관적 동시성 제어 (갱신마다 +1)
 
 }
\ No newline at end of file
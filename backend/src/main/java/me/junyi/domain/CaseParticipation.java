@@ -3,6 +3,7 @@ package me.junyi.domain;
 import lombok.Builder;
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Table;
 
 @Data
@@ -23,4 +24,7 @@ public class CaseParticipation {
     private Boolean isSolved;
 
     private String detectiveGuessNickname;
+
+    @Version
+    private Long version; // 낙관적 동시성 제어 (갱신마다 +1, 새 레코드는 null)
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package me.junyi.domain;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 사건 워크플로우 상태
+ * DB(case_info.status)에는 code(smallint)로, API(JSON)에는 기존과 같은 한글 이름(label)으로 주고받습니다.
+ * 상태는 등록 → 조작 → 접수중 → 배정 → 결과 확인 순서로만 바뀌며, 허용되지 않는 전이는 canTransitionTo로 걸러냅니다.
+ * code 값은 V3 마이그레이션과 sql/*.sql 의 상수와 같아야 하므로 바꾸면 안 됩니다.
+ */
+public enum CaseStatus {
+
+    REGISTERED(0, "등록"),   // 의뢰 가능 / 범인 참여 대기
+    FABRICATED(1, "조작"),   // 범인이 증거 조작 완료, 경찰 접수 대기
+    RECEIVED(2, "접수중"),   // 경찰이 접수, 탐정 배정 대기
+    ASSIGNED(3, "배정"),     // 탐정 배정, 추리 대기
+    RESOLVED(4, "결과 확인"); // 추리 결과 정산 완료
+
+    private static final CaseStatus[] BY_CODE = values();
+
+    private final short code;
+    private final String label;
+
+    CaseStatus(int code, String label) {
+        this.code = (short) code;
+        this.label = label;
+    }
+
+    public short code() {
+        return code;
+    }
+
+    @JsonValue
+    public String label() {
+        return label;
+    }
+
+    /** 이 상태에서 바로 넘어갈 수 있는 다음 상태 */
+    public Set<CaseStatus> nextStatuses() {
+        return switch (this) {
+            case REGISTERED -> EnumSet.of(FABRICATED);
+            case FABRICATED -> EnumSet.of(RECEIVED);
+            case RECEIVED -> EnumSet.of(ASSIGNED);
+            case ASSIGNED -> EnumSet.of(RESOLVED);
+            case RESOLVED -> EnumSet.noneOf(CaseStatus.class);
+        };
+    }
+
+    public boolean canTransitionTo(CaseStatus next) {
+        return nextStatuses().contains(next);
+    }
+
+    public static CaseStatus fromCode(int code) {
+        if (code < 0 || code >= BY_CODE.length || BY_CODE[code].code != code) {
+            throw new IllegalArgumentException("알 수 없는 사건 상태 코드입니다: " + code);
+        }
+        return BY_CODE[code];
+    }
+
+    @JsonCreator
+    public static CaseStatus fromLabel(String label) {
+        for (CaseStatus status : BY_CODE) {
+            if (status.label.equals(label)) return status;
+        }
+        throw new IllegalArgumentException("알 수 없는 사건 상태입니다: " + label);
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
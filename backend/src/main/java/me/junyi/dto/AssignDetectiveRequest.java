@@ -0,0 +1,11 @@
+package me.junyi.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+/** POST /api/cases/assign - 경찰의 탐정 배정 요청 */
+public record AssignDetectiveRequest(
+        @NotNull(message = "caseId는 필수입니다.") Long caseId,
+        @NotNull(message = "policeId는 필수입니다.") Long policeId,
+        @NotNull(message = "detectiveId는 필수입니다.") Long detectiveId
+) {
+}
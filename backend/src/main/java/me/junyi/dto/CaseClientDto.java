@@ -2,6 +2,7 @@ package me.junyi.dto;
 
 // Lombok 사용을 가정하여 @Getter, @Setter, @Builder, @NoArgsConstructor, @AllArgsConstructor를 추가합니다.
 
+import me.junyi.domain.CaseStatus;
 import lombok.*;
 
 @Getter
@@ -25,7 +26,7 @@ public class CaseClientDto {
     private String detectiveNickname; // 배정된 탐정의 닉네임
 
     // 5. 사건 진행 상태 및 결과
-    private String status;         // '등록', '조작', '배정', '추리 완료', '결과 확인'
+    private CaseStatus status;     // '등록', '조작', '접수중', '배정', '결과 확인' (JSON은 한글 이름)
     private String result;         // '감사' (해결) 또는 '부고' (미해결)
 
     // 6. 탐정 추리 결과 정보
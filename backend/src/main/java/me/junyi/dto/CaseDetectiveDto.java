@@ -3,6 +3,7 @@ package me.junyi.dto;
 // Lombok 사용을 가정하여 @Getter, @Setter, @Builder, @NoArgsConstructor, @AllArgsConstructor를 추가합니다.
 // 만약 Lombok을 사용하지 않는다면, 생성자와 Getter/Setter 메서드를 수동으로 정의해야 합니다.
 
+import me.junyi.domain.CaseStatus;
 import lombok.*;
 
 import java.util.List;
@@ -29,7 +30,7 @@ public class CaseDetectiveDto {
     private String policeNickname;
 
     // 5. 탐정의 추리 및 결과
-    private String status;         // '배정', '추리 완료', '결과 확인'
+    private CaseStatus status;     // '배정', '결과 확인' (JSON은 한글 이름)
     private String culpritGuess;   // 탐정의 추리 결과 (용의자 닉네임)
     private String actualCulprit;  // 실제 범인 (결과 확인 시 필요)
     private String result;         // '감사' (성공) 또는 '부고' (실패)
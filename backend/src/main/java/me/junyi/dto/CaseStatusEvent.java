@@ -0,0 +1,31 @@
+package me.junyi.dto;
+
+import me.junyi.domain.CaseParticipation;
+import me.junyi.domain.CaseStatus;
+
+/**
+ * 사건 상태 변경 이벤트
+ * CaseService에서 발행하고, 트랜잭션 커밋 후 SSE(/api/cases/stream)로 관련 사용자/역할에게 전달됩니다.
+ */
+public record CaseStatusEvent(
+        Long caseId,
+        Long activeId,
+        CaseStatus status,
+        Long clientId,
+        Long culpritId,
+        Long policeId,
+        Long detectiveId
+) {
+
+    public static CaseStatusEvent of(CaseParticipation participation, CaseStatus status) {
+        return new CaseStatusEvent(
+                participation.getCaseId(),
+                participation.getPartId(),
+                status,
+                participation.getClientId(),
+                participation.getCriminalId(),
+                participation.getPoliceId(),
+                participation.getDetectiveId()
+        );
+    }
+}
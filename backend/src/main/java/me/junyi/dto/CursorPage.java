@@ -0,0 +1,56 @@
+package me.junyi.dto;
+
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(keyset) 기반 페이지
+ * 목록 본문은 기존과 같은 JSON 배열로 내려주고, 다음 페이지 커서는 X-Next-Cursor 헤더로 전달합니다.
+ * 다음 페이지가 없으면 nextCursor는 null 입니다.
+ * 기존 목록 API는 페이지를 요청한 경우(after 또는 size 지정)에만 나누고, 둘 다 없으면 예전처럼 전체를 내려줍니다. (limitOf)
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final int DEFAULT_SIZE = 100;
+    public static final int MAX_SIZE = 500;
+
+    // 전체 조회 - size + 1 건을 조회해도 넘치지 않는 값
+    public static final int UNBOUNDED = Integer.MAX_VALUE - 1;
+
+    /** 요청 크기를 1 ~ MAX_SIZE 범위로 보정 */
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * 페이지를 선택한 목록의 조회 크기
+     * after 와 size 가 모두 없으면 전체(UNBOUNDED), 하나라도 있으면 size(없으면 DEFAULT_SIZE)를 1 ~ MAX_SIZE 로 보정
+     */
+    public static int limitOf(Object after, Integer size) {
+        if (after == null && size == null) return UNBOUNDED;
+        return clampSize(size != null ? size : DEFAULT_SIZE);
+    }
+
+    /**
+     * size + 1 건을 조회한 결과로 페이지 구성
+     * 초과분이 있으면 마지막 항목의 키로 다음 커서를 만듭니다.
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, ?> cursorOf) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, size);
+        return new CursorPage<>(items, String.valueOf(cursorOf.apply(items.get(size - 1))));
+    }
+
+    public ResponseEntity<List<T>> toResponse() {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (nextCursor != null) {
+            builder.header(NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return builder.body(items);
+    }
+}
@@ -0,0 +1,11 @@
+package me.junyi.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/** POST /api/cases/detective/guess/{caseId} - 탐정의 추리 제출 요청 */
+public record DetectiveGuessRequest(
+        @NotNull(message = "detectiveId는 필수입니다.") Long detectiveId,
+        @NotBlank(message = "추리할 용의자 닉네임이 필요합니다.") String culpritGuessNickname
+) {
+}
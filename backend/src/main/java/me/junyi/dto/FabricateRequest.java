@@ -0,0 +1,15 @@
+package me.junyi.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/** POST /api/cases/fabricate - 범인의 증거 조작 요청 */
+public record FabricateRequest(
+        @NotNull(message = "caseId는 필수입니다.") Long caseId,
+        @NotNull(message = "criminalId는 필수입니다.") Long criminalId,
+        @NotEmpty(message = "증거가 선택되지 않았습니다.") List<@NotBlank(message = "증거가 선택되지 않았습니다.") String> fakeEvidence
+) {
+}
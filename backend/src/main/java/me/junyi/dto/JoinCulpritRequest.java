@@ -0,0 +1,10 @@
+package me.junyi.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+/** POST /api/cases/culprit/join - 범인의 사건 참여 요청 */
+public record JoinCulpritRequest(
+        @NotNull(message = "Case ID와 Culprit ID는 필수입니다.") Long caseId,
+        @NotNull(message = "Case ID와 Culprit ID는 필수입니다.") Long culpritId
+) {
+}
@@ -1,5 +1,6 @@
 package me.junyi.dto;
 
+import me.junyi.domain.CaseStatus;
 import lombok.Builder;
 import lombok.Data;
 
@@ -14,7 +15,7 @@ public class MyCaseDto {
     private String clientNickname;
     private Integer difficulty;
 
-    private String status;
+    private CaseStatus status;
     private Boolean fakeEvidenceSelected;
 }
 
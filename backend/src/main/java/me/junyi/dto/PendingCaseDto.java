@@ -1,4 +1,5 @@
 package me.junyi.dto;
+import me.junyi.domain.CaseStatus;
 import lombok.Builder;
 import lombok.Data;
 
@@ -11,6 +12,6 @@ public class PendingCaseDto {
     private String caseDescription;
     private String clientNickname;
     private String culpritNickname;
-    private String status;
+    private CaseStatus status;
     private Integer difficulty;
 }
@@ -0,0 +1,10 @@
+package me.junyi.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+/** POST /api/cases/police/accept - 경찰의 사건 접수 요청 */
+public record PoliceAcceptRequest(
+        @NotNull(message = "caseId와 policeId는 필수입니다.") Long caseId,
+        @NotNull(message = "caseId와 policeId는 필수입니다.") Long policeId
+) {
+}
@@ -1,5 +1,6 @@
 package me.junyi.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
 @Getter
@@ -7,6 +8,7 @@ import lombok.*;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL) // 스냅샷 조회에는 사건 수 / 성공률이 없고, 순위 변동은 ?deltaSince= 일 때만 채워짐
 public class RankingDto {
     private Long userId;
 
@@ -15,4 +17,10 @@ public class RankingDto {
     private Long score;
     private Long totalCases;
     private Double successRate;
+    private Integer rank; // 역할 내 순위 (1부터, 동점이어도 user_id 순으로 겹치지 않음)
+    private Integer competitionRank; // 동점은 같은 순위, 다음 순위는 건너뜀 (1, 1, 3)
+    private Integer denseRank; // 동점은 같은 순위, 다음 순위는 이어짐 (1, 1, 2)
+
+    private Integer rankChange; // 스냅샷 대비 순위 변동 (competitionRank 기준, + 는 상승 / 스냅샷에 없던 사용자는 null)
+    private Long scoreChange; // 스냅샷 대비 점수 변동
 }
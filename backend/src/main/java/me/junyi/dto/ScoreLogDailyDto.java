@@ -0,0 +1,16 @@
+package me.junyi.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoreLogDailyDto {
+    private LocalDate logDate;
+    private Long scoreChange; // 그날 점수 변경량 합계
+    private Integer entryCount; // 그날 기록 수
+}
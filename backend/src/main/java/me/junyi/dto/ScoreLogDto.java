@@ -0,0 +1,18 @@
+package me.junyi.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoreLogDto {
+    private Long logId;
+    private Long caseId;
+    private Integer scoreChange; // 점수 변경량 (+ 또는 - 값)
+    private String reason; // 변경 사유
+    private LocalDateTime logTime;
+}
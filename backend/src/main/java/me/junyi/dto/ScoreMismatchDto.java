@@ -0,0 +1,15 @@
+package me.junyi.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoreMismatchDto {
+    private Long userId;
+    private Long recordedScore; // app_user.score
+    private Long replayedScore; // score_log (+ 일 요약) 합계
+    private Long difference; // replayedScore - recordedScore
+}
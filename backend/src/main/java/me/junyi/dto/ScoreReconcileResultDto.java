@@ -0,0 +1,21 @@
+package me.junyi.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoreReconcileResultDto {
+    private Boolean applied; // false 이면 확인만 (점수는 바꾸지 않음)
+    private Long scannedUsers;
+    private Long replayedRows; // 다시 합산한 score_log + 일 요약 행 수
+    private Long mismatchCount; // 재확인 후에도 점수가 다른 사용자 수
+    private Long correctedCount; // 점수를 보정한 사용자 수
+    private Long skippedCount; // 보정 직전에 점수가 바뀌어 건너뛴 사용자 수
+    private Long elapsedMs;
+    private List<ScoreMismatchDto> mismatches; // 앞에서부터 app.score-reconcile.report-limit 명까지
+}
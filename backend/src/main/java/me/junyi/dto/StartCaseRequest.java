@@ -0,0 +1,10 @@
+package me.junyi.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+/** POST /api/case/start - 의뢰인의 사건 의뢰 요청 */
+public record StartCaseRequest(
+        @NotNull(message = "ID는 필수입니다.") Long clientId,
+        @NotNull(message = "ID는 필수입니다.") Long caseId
+) {
+}
@@ -1,11 +1,15 @@
 package me.junyi.repository;
 
 import me.junyi.domain.*;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.CrudRepository;
 import java.util.List;
 import java.util.Optional;
 
 // 2. 사건 정보 리포지토리
 public interface CaseInfoRepository extends CrudRepository<CaseInfo, Long> {
-    List<CaseInfo> findAllByStatus(String status);
-}
\ No newline at end of file
+    List<CaseInfo> findAllByStatus(CaseStatus status);
+
+    // case_id 기준 keyset 페이지
+    List<CaseInfo> findAllByStatusAndCaseIdGreaterThanOrderByCaseIdAsc(CaseStatus status, Long caseId, Pageable pageable);
+}
\ No newline at end of file
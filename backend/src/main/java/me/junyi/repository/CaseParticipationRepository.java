@@ -1,6 +1,7 @@
 package me.junyi.repository;
 
 import me.junyi.domain.*;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.CrudRepository;
 
 import java.util.List;
@@ -9,8 +10,10 @@ import java.util.Optional;
 // 3. 사건 참여 리포지토리
 public interface CaseParticipationRepository extends CrudRepository<CaseParticipation, Long> {
     List<CaseParticipation> findAllByClientId(Long clientId);
+    // part_id 기준 keyset 페이지
+    List<CaseParticipation> findAllByClientIdAndPartIdGreaterThanOrderByPartIdAsc(Long clientId, Long partId, Pageable pageable);
     Optional<CaseParticipation> findByCaseId(Long caseId);
     List<CaseParticipation> findAllByCriminalId(Long criminalId);
     List<CaseParticipation> findAllByDetectiveId(Long detectiveId);
 
-}
\ No newline at end of file
+}
\ No newline at end of file
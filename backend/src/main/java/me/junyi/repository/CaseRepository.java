@@ -43,7 +43,8 @@ public class CaseRepository {
     }
 
     // 4. 비즈니스 로직 메소드에서는 저장된 String 변수를 사용합니다.
-    public List<AvailableCaseDto> getAvailableCasesForCulprit() {
+    //    part_id 기준 keyset 페이지 (afterPartId 다음부터 limit 건)
+    public List<AvailableCaseDto> getAvailableCasesForCulprit(long afterPartId, int limit) {
 
         return jdbcTemplate.query(availableCasesSql, (rs, rowNum) ->
                 AvailableCaseDto.builder()
@@ -53,7 +54,8 @@ public class CaseRepository {
                         .caseDescription(rs.getString("content"))
                         .difficulty(rs.getInt("difficulty"))
                         .clientNickname(rs.getString("client_nickname"))
-                        .build()
+                        .build(),
+                afterPartId, limit
         );
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
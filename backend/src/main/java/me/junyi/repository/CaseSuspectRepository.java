@@ -2,6 +2,7 @@ package me.junyi.repository;
 
 import me.junyi.domain.CaseSuspect;
 import org.springframework.data.repository.CrudRepository;
+import java.util.Collection;
 import java.util.List;
 
 // 6. 사건 용의자 리포지토리
@@ -9,4 +10,7 @@ public interface CaseSuspectRepository extends CrudRepository<CaseSuspect, Long>
 
     // 특정 사건(caseId)의 모든 용의자 목록을 조회할 때 사용
     List<CaseSuspect> findAllByCaseId(Long caseId);
+
+    // 여러 사건의 용의자를 한 번에 조회 (CaseContentCache 일괄 적재)
+    List<CaseSuspect> findAllByCaseIdIn(Collection<Long> caseIds);
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+package me.junyi.repository;
+
+import jakarta.annotation.PostConstruct;
+import me.junyi.domain.CaseInfo;
+import me.junyi.domain.CaseStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+// 사건 상태 전이 리포지토리
+// 조회 후 저장하는 대신 'WHERE status = 기대 상태' 조건부 UPDATE 한 번으로 상태를 바꿉니다.
+// 허용되지 않는 전이(CaseStatus.canTransitionTo)는 DB에 보내기 전에 여기서 거절합니다.
+// 같은 사건에 대한 요청이 겹치면 먼저 커밋된 한 건만 성공하고, 나머지는 변경된 행이 없어 충돌로 처리됩니다.
+// (행 잠금은 UPDATE 문장 동안만 잡히므로 사건 단위로 요청을 줄 세우지 않음)
+@Repository
+public class CaseTransitionRepository {
+
+    // UPDATE ... RETURNING 결과 -> CaseInfo
+    public static final RowMapper<CaseInfo> CASE_INFO_MAPPER = (rs, rowNum) -> {
+        CaseInfo info = new CaseInfo();
+        info.setCaseId(rs.getLong("case_id"));
+        info.setTitle(rs.getString("title"));
+        info.setContent(rs.getString("content"));
+        info.setDifficulty(rs.getInt("difficulty"));
+        info.setTrueCriminalId(rs.getObject("true_criminal_id", Long.class));
+        info.setStatus(CaseStatus.fromCode(rs.getShort("status")));
+        info.setVersion(rs.getLong("version"));
+        return info;
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("classpath:sql/case_transition.sql")
+    private Resource transitionSqlFile;
+    private String transitionSql;
+
+    public CaseTransitionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void loadSqlFiles() {
+        try {
+            this.transitionSql = StreamUtils.copyToString(transitionSqlFile.getInputStream(), StandardCharsets.UTF_8).trim();
+        } catch (IOException e) {
+            throw new RuntimeException("사건 상태 전이 SQL 파일을 로드하는 데 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 사건 상태가 expected 일 때만 next 로 변경하고 변경된 사건 반환
+     * 호출 전에 사건(참여 레코드)이 있는지 확인했다는 전제이므로, 변경된 행이 없으면 상태 충돌로 봅니다.
+     */
+    public CaseInfo transition(Long caseId, CaseStatus expected, CaseStatus next) {
+        if (!expected.canTransitionTo(next)) {
+            throw new IllegalStateException("허용되지 않는 사건 상태 전이입니다: " + expected + " → " + next);
+        }
+        List<CaseInfo> updated = jdbcTemplate.query(transitionSql, CASE_INFO_MAPPER, next.code(), caseId, expected.code());
+        if (updated.isEmpty()) {
+            throw conflict(caseId, expected);
+        }
+        return updated.get(0);
+    }
+
+    /** 기대한 상태가 아니어서 전이하지 못한 경우의 예외 (컨트롤러에서 409로 응답) */
+    public static OptimisticLockingFailureException conflict(Long caseId, CaseStatus expected) {
+        return new OptimisticLockingFailureException(
+                "사건 " + caseId + " 이(가) '" + expected + "' 상태가 아닙니다. 다른 요청이 먼저 처리했을 수 있습니다.");
+    }
+}
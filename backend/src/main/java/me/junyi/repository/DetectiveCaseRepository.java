@@ -0,0 +1,94 @@
+package me.junyi.repository;
+
+import jakarta.annotation.PostConstruct;
+import me.junyi.domain.CaseStatus;
+import me.junyi.dto.CaseDetectiveDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+// 탐정 대시보드 전용 조회 리포지토리
+// 사건/참여자 닉네임을 한 번의 JOIN 쿼리로 가져와 CaseDetectiveDto를 구성합니다.
+// 용의자 목록은 작성 후 바뀌지 않으므로 CaseService가 CaseContentCache에서 채웁니다.
+@Repository
+public class DetectiveCaseRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("classpath:sql/detective_assigned_cases.sql")
+    private Resource assignedCasesSqlFile;
+    private String assignedCasesSql;
+
+    @Value("classpath:sql/detective_completed_cases.sql")
+    private Resource completedCasesSqlFile;
+    private String completedCasesSql;
+
+    public DetectiveCaseRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void loadSqlFiles() {
+        try {
+            this.assignedCasesSql = StreamUtils.copyToString(
+                    assignedCasesSqlFile.getInputStream(),
+                    StandardCharsets.UTF_8
+            ).trim();
+
+            this.completedCasesSql = StreamUtils.copyToString(
+                    completedCasesSqlFile.getInputStream(),
+                    StandardCharsets.UTF_8
+            ).trim();
+        } catch (IOException e) {
+            throw new RuntimeException("탐정 사건 SQL 파일을 로드하는 데 실패했습니다.", e);
+        }
+    }
+
+    /** 배정된 사건 (STATUS='배정') - 추리 전이므로 실제 범인/결과는 조회하지 않음 */
+    public List<CaseDetectiveDto> findAssignedCases(Long detectiveId, long afterPartId, int limit) {
+        return jdbcTemplate.query(assignedCasesSql, (rs, rowNum) ->
+                CaseDetectiveDto.builder()
+                        .activeId(rs.getLong("active_id"))
+                        .caseId(rs.getLong("case_id"))
+                        .caseTitle(rs.getString("title"))
+                        .caseDescription(rs.getString("content"))
+                        .difficulty(rs.getInt("difficulty"))
+                        .clientNickname(nicknameOrDefault(rs.getString("client_nickname")))
+                        .policeNickname(nicknameOrDefault(rs.getString("police_nickname")))
+                        .status(CaseStatus.fromCode(rs.getShort("status")))
+                        .build(),
+                detectiveId, afterPartId, limit
+        );
+    }
+
+    /** 완료된 사건 (STATUS='결과 확인') - 추리 결과와 실제 범인 포함 */
+    public List<CaseDetectiveDto> findCompletedCases(Long detectiveId, long afterPartId, int limit) {
+        return jdbcTemplate.query(completedCasesSql, (rs, rowNum) -> {
+            Boolean isSolved = rs.getObject("is_solved", Boolean.class);
+
+            return CaseDetectiveDto.builder()
+                    .activeId(rs.getLong("active_id"))
+                    .caseId(rs.getLong("case_id"))
+                    .caseTitle(rs.getString("title"))
+                    .caseDescription(rs.getString("content"))
+                    .difficulty(rs.getInt("difficulty"))
+                    .clientNickname(nicknameOrDefault(rs.getString("client_nickname")))
+                    .policeNickname(nicknameOrDefault(rs.getString("police_nickname")))
+                    .status(CaseStatus.fromCode(rs.getShort("status")))
+                    .culpritGuess(rs.getString("detective_guess_nickname"))
+                    .result(isSolved != null ? (isSolved ? "감사" : "부고") : null)
+                    .actualCulprit(nicknameOrDefault(rs.getString("actual_culprit")))
+                    .build();
+        }, detectiveId, afterPartId, limit);
+    }
+
+    private static String nicknameOrDefault(String nickname) {
+        return nickname != null ? nickname : "미정";
+    }
+}
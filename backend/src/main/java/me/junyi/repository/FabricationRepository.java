@@ -0,0 +1,84 @@
+package me.junyi.repository;
+
+import jakarta.annotation.PostConstruct;
+import me.junyi.domain.CaseInfo;
+import me.junyi.domain.CaseStatus;
+import me.junyi.domain.SubmittedEvidence;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+// 증거 조작 쓰기 전용 리포지토리
+// 제출 증거 교체(DELETE 1회 + 다중 행 INSERT 1회)와 사건 상태 변경(UPDATE 1회)을
+// 증거 개수와 무관하게 고정된 문장 수로 실행합니다.
+@Repository
+public class FabricationRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("classpath:sql/fabrication_delete_evidence.sql")
+    private Resource deleteEvidenceSqlFile;
+    private String deleteEvidenceSql;
+
+    @Value("classpath:sql/fabrication_insert_evidence.sql")
+    private Resource insertEvidenceSqlFile;
+    private String insertEvidenceSql;
+
+    @Value("classpath:sql/fabrication_mark_case.sql")
+    private Resource markCaseSqlFile;
+    private String markCaseSql;
+
+    public FabricationRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void loadSqlFiles() {
+        try {
+            this.deleteEvidenceSql = readSql(deleteEvidenceSqlFile);
+            this.insertEvidenceSql = readSql(insertEvidenceSqlFile);
+            this.markCaseSql = readSql(markCaseSqlFile);
+        } catch (IOException e) {
+            throw new RuntimeException("증거 조작 SQL 파일을 로드하는 데 실패했습니다.", e);
+        }
+    }
+
+    private static String readSql(Resource resource) throws IOException {
+        return StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8).trim();
+    }
+
+    /** 사건의 제출 증거를 새 목록으로 교체 (DELETE 1회 + INSERT 1회) */
+    public void replaceSubmittedEvidence(Long caseId, List<SubmittedEvidence> evidences) {
+        jdbcTemplate.update(deleteEvidenceSql, caseId);
+        if (evidences.isEmpty()) return;
+
+        String[] descriptions = evidences.stream().map(SubmittedEvidence::getEvidenceDescription).toArray(String[]::new);
+        Boolean[] isTrue = evidences.stream().map(SubmittedEvidence::getIsTrueEvidence).toArray(Boolean[]::new);
+
+        jdbcTemplate.update(connection -> {
+            var ps = connection.prepareStatement(insertEvidenceSql);
+            ps.setLong(1, caseId);
+            ps.setArray(2, connection.createArrayOf("text", descriptions));
+            ps.setArray(3, connection.createArrayOf("boolean", isTrue));
+            return ps;
+        });
+    }
+
+    /**
+     * '등록' 상태의 사건을 '조작'으로 변경하고 (실제 범인이 비어 있으면 지정) 변경된 사건 반환 - UPDATE 1회
+     * 이미 다른 요청이 조작했거나 다음 단계로 넘어간 사건이면 충돌 예외
+     */
+    public CaseInfo markFabricated(Long caseId, Long criminalId) {
+        List<CaseInfo> updated = jdbcTemplate.query(markCaseSql, CaseTransitionRepository.CASE_INFO_MAPPER, criminalId, caseId);
+        if (updated.isEmpty()) {
+            throw CaseTransitionRepository.conflict(caseId, CaseStatus.REGISTERED);
+        }
+        return updated.get(0);
+    }
+}
@@ -0,0 +1,75 @@
+package me.junyi.repository;
+
+import jakarta.annotation.PostConstruct;
+import me.junyi.service.IdempotencyStore.StoredResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+// Idempotency-Key 응답 영구 저장 리포지토리 (idempotency_key 테이블, V4 마이그레이션)
+@Repository
+public class IdempotencyKeyRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("classpath:sql/idempotency_find.sql")
+    private Resource findSqlFile;
+    private String findSql;
+
+    @Value("classpath:sql/idempotency_save.sql")
+    private Resource saveSqlFile;
+    private String saveSql;
+
+    @Value("classpath:sql/idempotency_purge.sql")
+    private Resource purgeSqlFile;
+    private String purgeSql;
+
+    public IdempotencyKeyRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void loadSqlFiles() {
+        try {
+            this.findSql = readSql(findSqlFile);
+            this.saveSql = readSql(saveSqlFile);
+            this.purgeSql = readSql(purgeSqlFile);
+        } catch (IOException e) {
+            throw new RuntimeException("Idempotency-Key SQL 파일을 로드하는 데 실패했습니다.", e);
+        }
+    }
+
+    private static String readSql(Resource resource) throws IOException {
+        return StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8).trim();
+    }
+
+    /** 만료되지 않은 저장 응답 조회 */
+    public Optional<StoredResponse> find(String key) {
+        List<StoredResponse> found = jdbcTemplate.query(findSql, (rs, rowNum) -> new StoredResponse(
+                rs.getString("request_hash"),
+                rs.getInt("status"),
+                rs.getString("content_type"),
+                rs.getBytes("body")
+        ), key);
+        return found.stream().findFirst();
+    }
+
+    /** 응답 저장 - 같은 키가 이미 있으면 기존 응답 유지 */
+    public void save(String key, StoredResponse response, Duration ttl) {
+        jdbcTemplate.update(saveSql, key, response.requestHash(), response.status(), response.contentType(),
+                response.body(), ttl.toSeconds());
+    }
+
+    /** 만료된 응답 삭제 후 삭제한 행 수 반환 */
+    public int purgeExpired() {
+        return jdbcTemplate.update(purgeSql);
+    }
+}
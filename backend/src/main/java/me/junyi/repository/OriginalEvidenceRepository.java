@@ -2,6 +2,7 @@ package me.junyi.repository;
 
 import me.junyi.domain.*;
 import org.springframework.data.repository.CrudRepository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +14,7 @@ public interface OriginalEvidenceRepository extends CrudRepository<OriginalEvide
 
     // 🚨 [추가됨] 특정 사건의 모든 OriginalEvidence를 조회할 때 사용
     List<OriginalEvidence> findAllByCaseId(Long caseId);
+
+    // 여러 사건의 증거를 한 번에 조회 (CaseContentCache 일괄 적재)
+    List<OriginalEvidence> findAllByCaseIdIn(Collection<Long> caseIds);
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package me.junyi.repository;
+
+import jakarta.annotation.PostConstruct;
+import me.junyi.domain.CaseStatus;
+import me.junyi.dto.PendingCaseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+// 경찰 업무 큐 조회 리포지토리
+// case_participation.police_id / case_info.status 인덱스(V1 마이그레이션)를 타는 조건으로만 조회합니다.
+@Repository
+public class PoliceCaseRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("classpath:sql/police_pending_cases.sql")
+    private Resource pendingCasesSqlFile;
+    private String pendingCasesSql;
+
+    @Value("classpath:sql/police_my_cases.sql")
+    private Resource myCasesSqlFile;
+    private String myCasesSql;
+
+    public PoliceCaseRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void loadSqlFiles() {
+        try {
+            this.pendingCasesSql = StreamUtils.copyToString(
+                    pendingCasesSqlFile.getInputStream(),
+                    StandardCharsets.UTF_8
+            ).trim();
+
+            this.myCasesSql = StreamUtils.copyToString(
+                    myCasesSqlFile.getInputStream(),
+                    StandardCharsets.UTF_8
+            ).trim();
+        } catch (IOException e) {
+            throw new RuntimeException("경찰 사건 SQL 파일을 로드하는 데 실패했습니다.", e);
+        }
+    }
+
+    /** 접수 대기('조작' + 미접수) 사건과 내가 접수한('접수중') 사건 */
+    public List<PendingCaseDto> findPendingCases(Long policeId) {
+        return jdbcTemplate.query(pendingCasesSql, pendingCaseMapper("알 수 없음", "미지정"), policeId);
+    }
+
+    /** 내가 맡은 진행 중 사건 (police_id = 나, '결과 확인' 제외) - part_id 기준 keyset 페이지 */
+    public List<PendingCaseDto> findMyCases(Long policeId, long afterPartId, int limit) {
+        return jdbcTemplate.query(myCasesSql, pendingCaseMapper("미정", "미정"), policeId, afterPartId, limit);
+    }
+
+    private static RowMapper<PendingCaseDto> pendingCaseMapper(String defaultClient, String defaultCulprit) {
+        return (rs, rowNum) -> {
+            String clientNickname = rs.getString("client_nickname");
+            String culpritNickname = rs.getString("culprit_nickname");
+
+            return PendingCaseDto.builder()
+                    .activeId(rs.getLong("active_id"))
+                    .caseId(rs.getLong("case_id"))
+                    .caseTitle(rs.getString("title"))
+                    .caseDescription(rs.getString("content"))
+                    .difficulty(rs.getInt("difficulty"))
+                    .status(CaseStatus.fromCode(rs.getShort("status")))
+                    .clientNickname(clientNickname != null ? clientNickname : defaultClient)
+                    .culpritNickname(culpritNickname != null ? culpritNickname : defaultCulprit)
+                    .build();
+        };
+    }
+}
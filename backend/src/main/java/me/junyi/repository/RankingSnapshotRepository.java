@@ -0,0 +1,153 @@
+package me.junyi.repository;
+
+import jakarta.annotation.PostConstruct;
+import me.junyi.dto.RankingDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// 랭킹 스냅샷 리포지토리 (ranking_snapshot / ranking_snapshot_entry 테이블, V7 마이그레이션)
+// 스냅샷 행은 (snapshot_id, role, rank) 순서로 저장되므로 페이지 조회는 기본 키 범위 스캔입니다.
+@Repository
+public class RankingSnapshotRepository {
+
+    private static final RowMapper<SnapshotRow> ROW_MAPPER = (rs, rowNum) -> new SnapshotRow(
+            rs.getInt("rank"),
+            rs.getLong("user_id"),
+            rs.getLong("score"),
+            rs.getInt("competition_rank"),
+            rs.getInt("dense_rank")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("classpath:sql/ranking_snapshot_create.sql")
+    private Resource createSqlFile;
+    private String createSql;
+
+    @Value("classpath:sql/ranking_snapshot_insert_entries.sql")
+    private Resource insertEntriesSqlFile;
+    private String insertEntriesSql;
+
+    @Value("classpath:sql/ranking_snapshot_find.sql")
+    private Resource findSqlFile;
+    private String findSql;
+
+    @Value("classpath:sql/ranking_snapshot_page.sql")
+    private Resource pageSqlFile;
+    private String pageSql;
+
+    @Value("classpath:sql/ranking_snapshot_users.sql")
+    private Resource usersSqlFile;
+    private String usersSql;
+
+    @Value("classpath:sql/ranking_snapshot_purge.sql")
+    private Resource purgeSqlFile;
+    private String purgeSql;
+
+    public RankingSnapshotRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void loadSqlFiles() {
+        try {
+            this.createSql = readSql(createSqlFile);
+            this.insertEntriesSql = readSql(insertEntriesSqlFile);
+            this.findSql = readSql(findSqlFile);
+            this.pageSql = readSql(pageSqlFile);
+            this.usersSql = readSql(usersSqlFile);
+            this.purgeSql = readSql(purgeSqlFile);
+        } catch (IOException e) {
+            throw new RuntimeException("랭킹 스냅샷 SQL 파일을 로드하는 데 실패했습니다.", e);
+        }
+    }
+
+    private static String readSql(Resource resource) throws IOException {
+        return StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8).trim();
+    }
+
+    /** 스냅샷 1건 (id, 기록 시각) */
+    public record Snapshot(long snapshotId, LocalDateTime takenAt) {
+    }
+
+    /** 스냅샷에 기록된 한 사용자의 순위 */
+    public record SnapshotRow(int rank, long userId, long score, int competitionRank, int denseRank) {
+
+        public static SnapshotRow of(RankingDto row) {
+            return new SnapshotRow(row.getRank(), row.getUserId(), row.getScore(),
+                    row.getCompetitionRank(), row.getDenseRank());
+        }
+    }
+
+    /** 새 스냅샷 생성 후 id 반환 (행은 insertRows로 추가) */
+    public Snapshot create(LocalDateTime takenAt) {
+        Long id = jdbcTemplate.queryForObject(createSql, Long.class, Timestamp.valueOf(takenAt));
+        return new Snapshot(id, takenAt);
+    }
+
+    /** 한 역할의 스냅샷 행 저장 - INSERT 1회 */
+    public void insertRows(long snapshotId, String role, Collection<SnapshotRow> rows) {
+        if (rows.isEmpty()) return;
+
+        Integer[] ranks = rows.stream().map(SnapshotRow::rank).toArray(Integer[]::new);
+        Long[] userIds = rows.stream().map(SnapshotRow::userId).toArray(Long[]::new);
+        Long[] scores = rows.stream().map(SnapshotRow::score).toArray(Long[]::new);
+        Integer[] competitionRanks = rows.stream().map(SnapshotRow::competitionRank).toArray(Integer[]::new);
+        Integer[] denseRanks = rows.stream().map(SnapshotRow::denseRank).toArray(Integer[]::new);
+
+        jdbcTemplate.update(connection -> {
+            var ps = connection.prepareStatement(insertEntriesSql);
+            ps.setLong(1, snapshotId);
+            ps.setString(2, role);
+            ps.setArray(3, connection.createArrayOf("integer", ranks));
+            ps.setArray(4, connection.createArrayOf("bigint", userIds));
+            ps.setArray(5, connection.createArrayOf("bigint", scores));
+            ps.setArray(6, connection.createArrayOf("integer", competitionRanks));
+            ps.setArray(7, connection.createArrayOf("integer", denseRanks));
+            return ps;
+        });
+    }
+
+    /** 주어진 시각 이전(포함)의 마지막 스냅샷 */
+    public Optional<Snapshot> findAtOrBefore(LocalDateTime time) {
+        return jdbcTemplate.query(findSql, (rs, rowNum) -> new Snapshot(
+                rs.getLong("snapshot_id"),
+                rs.getTimestamp("taken_at").toLocalDateTime()
+        ), Timestamp.valueOf(time)).stream().findFirst();
+    }
+
+    /** afterRank 다음 순위부터 limit 건 */
+    public List<SnapshotRow> findPage(long snapshotId, String role, int afterRank, int limit) {
+        return jdbcTemplate.query(pageSql, ROW_MAPPER, snapshotId, role, afterRank, limit);
+    }
+
+    /** 여러 사용자의 스냅샷 순위 (스냅샷에 없는 사용자는 결과에서 빠짐) */
+    public List<SnapshotRow> findByUsers(long snapshotId, String role, Collection<Long> userIds) {
+        if (userIds.isEmpty()) return List.of();
+        Long[] ids = userIds.toArray(Long[]::new);
+        return jdbcTemplate.query(connection -> {
+            var ps = connection.prepareStatement(usersSql);
+            ps.setLong(1, snapshotId);
+            ps.setString(2, role);
+            ps.setArray(3, connection.createArrayOf("bigint", ids));
+            return ps;
+        }, ROW_MAPPER);
+    }
+
+    /** before 이전 스냅샷 삭제 후 삭제한 스냅샷 수 반환 */
+    public int purgeOlderThan(LocalDateTime before) {
+        return jdbcTemplate.update(purgeSql, Timestamp.valueOf(before));
+    }
+}
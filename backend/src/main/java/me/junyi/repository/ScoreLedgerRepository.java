@@ -0,0 +1,119 @@
+package me.junyi.repository;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+// 점수 원장 리포지토리
+// app_user.score 증가(UPDATE ... SET score = score + ?)는 요청 트랜잭션 안에서 바로 실행하고,
+// score_log 기록은 ScoreLogWriter에 맡겨 커밋 후 백그라운드에서 배치로 씁니다.
+// 읽고-더하고-저장하는 방식이 아니므로 동시에 같은 사용자의 점수를 바꿔도 증가분이 유실되지 않습니다.
+@Repository
+public class ScoreLedgerRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ScoreLogWriter scoreLogWriter;
+
+    @Value("classpath:sql/score_apply.sql")
+    private Resource scoreApplySqlFile;
+    private String scoreApplySql;
+
+    @Value("classpath:sql/score_apply_batch.sql")
+    private Resource scoreApplyBatchSqlFile;
+    private String scoreApplyBatchSql;
+
+    public ScoreLedgerRepository(JdbcTemplate jdbcTemplate, ScoreLogWriter scoreLogWriter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.scoreLogWriter = scoreLogWriter;
+    }
+
+    @PostConstruct
+    public void loadSqlFiles() {
+        try {
+            this.scoreApplySql = StreamUtils.copyToString(
+                    scoreApplySqlFile.getInputStream(),
+                    StandardCharsets.UTF_8
+            ).trim();
+
+            this.scoreApplyBatchSql = StreamUtils.copyToString(
+                    scoreApplyBatchSqlFile.getInputStream(),
+                    StandardCharsets.UTF_8
+            ).trim();
+        } catch (IOException e) {
+            throw new RuntimeException("점수 원장 SQL 파일을 로드하는 데 실패했습니다.", e);
+        }
+    }
+
+    /** 점수 변경 1건 적용 후 변경된 점수 반환 */
+    public int apply(Long userId, Long caseId, int scoreChange, String reason) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Integer> scores = jdbcTemplate.query(scoreApplySql,
+                (rs, rowNum) -> rs.getInt("score"),
+                scoreChange, userId);
+
+        if (scores.isEmpty()) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다. (userId=" + userId + ")");
+        }
+        scoreLogWriter.appendAfterCommit(List.of(
+                new ScoreLogWriter.PendingLog(userId, caseId, scoreChange, reason, now)));
+        return scores.get(0);
+    }
+
+    /** 여러 건의 점수 변경을 JDBC 배치 한 번으로 적용하기 위한 배치 생성 */
+    public Batch batch() {
+        return new Batch();
+    }
+
+    public record Entry(Long userId, Long caseId, int scoreChange, String reason) {
+    }
+
+    public class Batch {
+
+        private final List<Entry> entries = new ArrayList<>();
+
+        public Batch add(Long userId, Long caseId, int scoreChange, String reason) {
+            entries.add(new Entry(userId, caseId, scoreChange, reason));
+            return this;
+        }
+
+        public List<Entry> entries() {
+            return Collections.unmodifiableList(entries);
+        }
+
+        /** 모아 둔 점수 변경을 한 번에 실행 (user_id 순으로 정렬해 행 잠금 순서를 고정) */
+        public void flush() {
+            if (entries.isEmpty()) return;
+
+            List<Entry> ordered = new ArrayList<>(entries);
+            ordered.sort(Comparator.comparing(Entry::userId));
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> args = ordered.stream()
+                    .map(e -> new Object[] {e.scoreChange(), e.userId()})
+                    .toList();
+
+            int[] counts = jdbcTemplate.batchUpdate(scoreApplyBatchSql, args);
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0) {
+                    throw new IllegalArgumentException(
+                            "사용자를 찾을 수 없습니다. (userId=" + ordered.get(i).userId() + ")");
+                }
+            }
+            scoreLogWriter.appendAfterCommit(ordered.stream()
+                    .map(e -> new ScoreLogWriter.PendingLog(e.userId(), e.caseId(), e.scoreChange(), e.reason(), now))
+                    .toList());
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package me.junyi.repository;
+
+import jakarta.annotation.PostConstruct;
+import me.junyi.dto.ScoreLogDailyDto;
+import me.junyi.dto.ScoreLogDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 점수 기록(score_log) 조회 / 파티션 관리 리포지토리 (V5 마이그레이션)
+// score_log는 log_time 기준 월 파티션이므로 조회마다 기간 하한을 걸어 오래된 파티션은 읽지 않고,
+// (user_id, log_time DESC, log_id DESC) 인덱스를 따라 keyset으로 페이지를 나눕니다.
+@Repository
+public class ScoreLogHistoryRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("classpath:sql/score_log_recent.sql")
+    private Resource recentSqlFile;
+    private String recentSql;
+
+    @Value("classpath:sql/score_log_daily.sql")
+    private Resource dailySqlFile;
+    private String dailySql;
+
+    @Value("classpath:sql/score_log_partitions.sql")
+    private Resource partitionsSqlFile;
+    private String partitionsSql;
+
+    @Value("classpath:sql/score_log_ensure_partition.sql")
+    private Resource ensurePartitionSqlFile;
+    private String ensurePartitionSql;
+
+    @Value("classpath:sql/score_log_archive_partition.sql")
+    private Resource archivePartitionSqlFile;
+    private String archivePartitionSql;
+
+    public ScoreLogHistoryRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void loadSqlFiles() {
+        try {
+            this.recentSql = readSql(recentSqlFile);
+            this.dailySql = readSql(dailySqlFile);
+            this.partitionsSql = readSql(partitionsSqlFile);
+            this.ensurePartitionSql = readSql(ensurePartitionSqlFile);
+            this.archivePartitionSql = readSql(archivePartitionSqlFile);
+        } catch (IOException e) {
+            throw new RuntimeException("점수 기록 SQL 파일을 로드하는 데 실패했습니다.", e);
+        }
+    }
+
+    private static String readSql(Resource resource) throws IOException {
+        return StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8).trim();
+    }
+
+    /**
+     * 사용자의 최근 점수 기록 (최신 순)
+     * since 이후의 기록 중 (beforeTime, beforeId) 보다 앞선 기록을 limit 건까지 조회합니다.
+     */
+    public List<ScoreLogDto> findRecent(Long userId, LocalDateTime since,
+                                        LocalDateTime beforeTime, long beforeId, int limit) {
+        return jdbcTemplate.query(recentSql, (rs, rowNum) -> ScoreLogDto.builder()
+                        .logId(rs.getLong("log_id"))
+                        .caseId((Long) rs.getObject("case_id"))
+                        .scoreChange(rs.getInt("score_change"))
+                        .reason(rs.getString("reason"))
+                        .logTime(rs.getTimestamp("log_time").toLocalDateTime())
+                        .build(),
+                userId, Timestamp.valueOf(since), Timestamp.valueOf(beforeTime), beforeId, limit);
+    }
+
+    /** 보관 기간이 지나 일 요약으로 접힌 기록 (before 이전 날짜, 최신 순) */
+    public List<ScoreLogDailyDto> findDaily(Long userId, LocalDate before, int limit) {
+        return jdbcTemplate.query(dailySql, (rs, rowNum) -> ScoreLogDailyDto.builder()
+                        .logDate(rs.getDate("log_date").toLocalDate())
+                        .scoreChange(rs.getLong("score_change"))
+                        .entryCount(rs.getInt("entry_count"))
+                        .build(),
+                userId, Date.valueOf(before), limit);
+    }
+
+    /** 현재 있는 월 파티션 목록 (각 월의 1일, 오래된 순) */
+    public List<LocalDate> findPartitionMonths() {
+        return jdbcTemplate.query(partitionsSql, (rs, rowNum) -> rs.getDate("month").toLocalDate());
+    }
+
+    /** 월 파티션 생성 - 새로 만들었으면 true */
+    public boolean ensurePartition(LocalDate month) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(ensurePartitionSql, Boolean.class, Date.valueOf(month)));
+    }
+
+    /** 월 파티션을 일 요약으로 접고 삭제 - 요약한 기록 수 반환 (파티션이 없으면 -1) */
+    public long archivePartition(LocalDate month) {
+        Long rows = jdbcTemplate.queryForObject(archivePartitionSql, Long.class, Date.valueOf(month));
+        return rows == null ? -1 : rows;
+    }
+}
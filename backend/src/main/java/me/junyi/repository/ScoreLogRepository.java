@@ -3,9 +3,7 @@ package me.junyi.repository;
 import me.junyi.domain.ScoreLog;
 import org.springframework.data.repository.CrudRepository;
 
-import java.util.List;
-
+// 사용자별 기록 조회는 기간 하한과 keyset 페이지가 있는 ScoreLogHistoryRepository를 사용합니다.
+// (score_log는 log_time 기준 월 파티션 테이블이므로 사용자 전체 기록을 한 번에 읽지 않음)
 public interface ScoreLogRepository extends CrudRepository<ScoreLog, Long> {
-    // 특정 사용자(userId)의 점수 변경 기록을 최신 순으로 조회
-    List<ScoreLog> findAllByUserIdOrderByLogTimeDesc(Long userId);
-}
\ No newline at end of file
+}
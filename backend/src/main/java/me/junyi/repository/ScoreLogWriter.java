@@ -0,0 +1,276 @@
+package me.junyi.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// score_log 지연 쓰기 리포지토리
+// 점수 변경 로그는 감사용 데이터이므로 요청 트랜잭션 안에서 INSERT하지 않고, 커밋된 뒤 큐에 넣어
+// 백그라운드 스레드가 app.score-log.flush-size 건씩(또는 flush-interval-ms 마다) JDBC 배치로 씁니다.
+// - 롤백된 트랜잭션의 로그는 큐에 들어가지 않습니다. (점수 변경과 함께 취소)
+// - 큐가 가득 차면 enqueue-timeout-ms 동안 기다린 뒤에도 자리가 없으면 호출 스레드에서 직접 씁니다. (유실 대신 감속)
+// - 정상 종료 시에는 웹 서버가 요청을 모두 마친 뒤 멈추며, 큐에 남은 로그를 모두 쓴 다음 종료합니다.
+// 프로세스가 비정상 종료되면 아직 쓰지 못한 큐의 로그(최대 queue-capacity 건)는 남지 않습니다.
+@Slf4j
+@Repository
+public class ScoreLogWriter implements SmartLifecycle {
+
+    // 웹 서버(요청 처리)보다 늦게 멈추고, DataSource가 닫히기 전에 큐를 비움
+    private static final int PHASE = 0;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int flushSize;
+    private final long flushIntervalMillis;
+    private final long enqueueTimeoutMillis;
+    private final BlockingQueue<PendingLog> queue;
+    // 지금까지 큐에 넣은 로그 수 / 기록을 마친 로그 수 (큐는 넣은 순서대로 기록되므로 awaitDrained가 둘을 비교)
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong flushed = new AtomicLong();
+
+    private final Counter writtenCounter;
+    private final Counter inlineCounter;
+    private final Counter failedCounter;
+    private final Timer flushTimer;
+
+    @Value("classpath:sql/score_log_insert.sql")
+    private Resource insertSqlFile;
+    private String insertSql;
+
+    // running 확인 + 큐 삽입(읽기 잠금)과 종료 전환(쓰기 잠금)을 분리해, 종료 후 큐에 남는 로그가 없도록 함
+    private final ReadWriteLock runningLock = new ReentrantReadWriteLock();
+    private volatile boolean running = false;
+    private Thread worker;
+
+    public ScoreLogWriter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                          @Value("${app.score-log.flush-size:500}") int flushSize,
+                          @Value("${app.score-log.flush-interval-ms:200}") long flushIntervalMillis,
+                          @Value("${app.score-log.queue-capacity:10000}") int queueCapacity,
+                          @Value("${app.score-log.enqueue-timeout-ms:100}") long enqueueTimeoutMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushSize = flushSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.enqueueTimeoutMillis = enqueueTimeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("app.score-log.queue.size", queue, BlockingQueue::size)
+                .description("쓰기 대기 중인 점수 로그 수")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("app.score-log.written")
+                .description("배치로 기록한 점수 로그 수")
+                .register(meterRegistry);
+        this.inlineCounter = Counter.builder("app.score-log.inline")
+                .description("큐가 가득 차 호출 스레드에서 직접 기록한 점수 로그 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("app.score-log.failed")
+                .description("재시도 후에도 기록하지 못한 점수 로그 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("app.score-log.flush")
+                .description("점수 로그 배치 1회 기록 시간")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void loadSqlFiles() {
+        try {
+            this.insertSql = StreamUtils.copyToString(insertSqlFile.getInputStream(), StandardCharsets.UTF_8).trim();
+        } catch (IOException e) {
+            throw new RuntimeException("점수 로그 SQL 파일을 로드하는 데 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 점수 로그 기록 예약
+     * 트랜잭션 안이면 커밋된 뒤에 큐에 넣고, 트랜잭션 밖이면 바로 큐에 넣습니다.
+     */
+    public void appendAfterCommit(List<PendingLog> logs) {
+        if (logs.isEmpty()) return;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    append(logs);
+                }
+            });
+        } else {
+            append(logs);
+        }
+    }
+
+    private void append(List<PendingLog> logs) {
+        List<PendingLog> overflow = new ArrayList<>();
+        runningLock.readLock().lock();
+        try {
+            for (PendingLog pending : logs) {
+                if (!running || !offer(pending)) {
+                    overflow.add(pending);
+                }
+            }
+        } finally {
+            runningLock.readLock().unlock();
+        }
+        // 멈춘 뒤(종료 중) 들어온 로그나 큐에 자리가 없는 로그는 호출 스레드에서 바로 기록
+        if (!overflow.isEmpty()) {
+            inlineCounter.increment(overflow.size());
+            write(overflow);
+        }
+    }
+
+    private boolean offer(PendingLog entry) {
+        try {
+            if (!queue.offer(entry, enqueueTimeoutMillis, TimeUnit.MILLISECONDS)) return false;
+            enqueued.incrementAndGet();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 호출 시점까지 큐에 들어간 로그가 모두 기록될 때까지 최대 timeoutMillis 동안 대기
+     * score_log 를 다시 집계하기 전에 호출하며, 시간 안에 기록되지 않으면 false
+     * (이후에 들어오는 로그는 기다리지 않으므로 요청이 계속 들어와도 끝남)
+     */
+    public boolean awaitDrained(long timeoutMillis) {
+        long target = enqueued.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (flushed.get() < target) {
+            if (System.nanoTime() - deadline >= 0) return false;
+            try {
+                Thread.sleep(Math.min(10, Math.max(1, flushIntervalMillis / 4)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::drainLoop, "score-log-writer");
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        runningLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            runningLock.writeLock().unlock();
+        }
+        worker.interrupt();
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 직전에 들어온 로그까지 모두 기록
+        List<PendingLog> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        int drained = remaining.size();
+        while (!remaining.isEmpty()) {
+            List<PendingLog> batch = remaining.subList(0, Math.min(flushSize, remaining.size()));
+            write(new ArrayList<>(batch));
+            flushed.addAndGet(batch.size());
+            batch.clear();
+        }
+        log.info("점수 로그 기록기 종료 (남은 로그 {}건 기록)", drained);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void drainLoop() {
+        List<PendingLog> batch = new ArrayList<>(flushSize);
+        while (running) {
+            try {
+                // 첫 로그를 기다린 뒤, flush-interval 동안 flush-size 까지 모아서 기록
+                PendingLog first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+                while (batch.size() < flushSize) {
+                    queue.drainTo(batch, flushSize - batch.size());
+                    long remainingNanos = deadline - System.nanoTime();
+                    if (batch.size() >= flushSize || remainingNanos <= 0) break;
+                    PendingLog next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // stop() 호출 - 모은 로그를 쓰고 루프 종료 (큐에 남은 로그는 stop()이 기록)
+                // 인터럽트 상태를 남기면 커넥션 풀에서 커넥션을 얻지 못하므로 다시 설정하지 않음
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                flushed.addAndGet(batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    // 배치 1회 기록 - 일시적인 DB 오류는 재시도하고, 그래도 실패하면 로그를 남김
+    private void write(List<PendingLog> logs) {
+        List<Object[]> args = logs.stream()
+                .map(l -> new Object[] {l.userId(), l.caseId(), l.scoreChange(), l.reason(), l.logTime()})
+                .toList();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                flushTimer.record(() -> jdbcTemplate.batchUpdate(insertSql, args));
+                writtenCounter.increment(logs.size());
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    failedCounter.increment(logs.size());
+                    log.error("점수 로그 {}건 기록 실패: {}", logs.size(), logs, e);
+                    return;
+                }
+                log.warn("점수 로그 기록 실패, 재시도 {}/{}", attempt, MAX_ATTEMPTS, e);
+                try {
+                    Thread.sleep(100L * attempt);
+                } catch (InterruptedException ie) {
+                    // 종료 중이어도 남은 로그는 끝까지 기록 (재시도 간격만 생략)
+                }
+            }
+        }
+    }
+
+    /** 기록 대기 중인 점수 로그 1건 (log_time은 점수가 바뀐 시각) */
+    public record PendingLog(Long userId, Long caseId, int scoreChange, String reason, Timestamp logTime) {
+    }
+}
@@ -0,0 +1,182 @@
+package me.junyi.repository;
+
+import jakarta.annotation.PostConstruct;
+import me.junyi.dto.ScoreMismatchDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// 점수 재집계 리포지토리 (app_user.score 와 score_log + score_log_daily 합계 비교)
+// 구간 조회는 fetch-size 단위로 서버 커서에서 받아 오므로 구간 크기와 무관하게 메모리에 행을 쌓지 않습니다.
+// PostgreSQL 은 트랜잭션 안에서만 커서를 쓰므로 replayRange 는 호출 측 트랜잭션 안에서 실행해야 합니다.
+@Repository
+public class ScoreReconcileRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("classpath:sql/score_reconcile_user_range.sql")
+    private Resource userRangeSqlFile;
+    private String userRangeSql;
+
+    @Value("classpath:sql/score_reconcile_changes.sql")
+    private Resource changesSqlFile;
+    private String changesSql;
+
+    @Value("classpath:sql/score_reconcile_scores.sql")
+    private Resource scoresSqlFile;
+    private String scoresSql;
+
+    @Value("classpath:sql/score_reconcile_users.sql")
+    private Resource usersSqlFile;
+    private String usersSql;
+
+    @Value("classpath:sql/score_reconcile_apply.sql")
+    private Resource applySqlFile;
+    private String applySql;
+
+    public ScoreReconcileRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void loadSqlFiles() {
+        try {
+            this.userRangeSql = readSql(userRangeSqlFile);
+            this.changesSql = readSql(changesSqlFile);
+            this.scoresSql = readSql(scoresSqlFile);
+            this.usersSql = readSql(usersSqlFile);
+            this.applySql = readSql(applySqlFile);
+        } catch (IOException e) {
+            throw new RuntimeException("점수 재집계 SQL 파일을 로드하는 데 실패했습니다.", e);
+        }
+    }
+
+    private static String readSql(Resource resource) throws IOException {
+        return StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8).trim();
+    }
+
+    /** 한 구간의 재집계 결과 (사용자 수, 합산한 기록 행 수, user_id 순서의 불일치 목록) */
+    public record ReplayedRange(long users, long rows, List<ScoreMismatchDto> mismatches) {
+
+        public static final ReplayedRange EMPTY = new ReplayedRange(0, 0, List.of());
+
+        /** 뒤 구간(other)의 결과를 이어 붙임 */
+        public ReplayedRange merge(ReplayedRange other) {
+            List<ScoreMismatchDto> merged = new ArrayList<>(mismatches.size() + other.mismatches.size());
+            merged.addAll(mismatches);
+            merged.addAll(other.mismatches);
+            return new ReplayedRange(users + other.users, rows + other.rows, merged);
+        }
+    }
+
+    /** 전체 사용자의 user_id 범위 [min, max] - 사용자가 없으면 empty */
+    public Optional<long[]> userIdRange() {
+        return jdbcTemplate.query(userRangeSql, rs -> {
+            rs.next();
+            long min = rs.getLong("min_id");
+            if (rs.wasNull()) return Optional.empty();
+            return Optional.of(new long[] {min, rs.getLong("max_id")});
+        });
+    }
+
+    /**
+     * user_id 구간 [fromId, toId) 의 점수 기록을 다시 합산해 app_user.score 와 비교
+     * user_id 가 연속된 값이므로 합계는 (user_id - fromId) 위치의 long 배열에 바로 더합니다. (사용자마다 객체를 만들지 않음)
+     */
+    public ReplayedRange replayRange(long fromId, long toId, int fetchSize) {
+        long[] sums = new long[Math.toIntExact(toId - fromId)];
+        long[] rows = {0};
+        jdbcTemplate.query(connection -> {
+            var ps = connection.prepareStatement(changesSql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setLong(1, fromId);
+            ps.setLong(2, toId);
+            ps.setLong(3, fromId);
+            ps.setLong(4, toId);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            sums[(int) (rs.getLong(1) - fromId)] += rs.getLong(2);
+            rows[0]++;
+        });
+
+        long[] users = {0};
+        List<ScoreMismatchDto> mismatches = new ArrayList<>();
+        jdbcTemplate.query(connection -> {
+            var ps = connection.prepareStatement(scoresSql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setLong(1, fromId);
+            ps.setLong(2, toId);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            long userId = rs.getLong(1);
+            long recorded = rs.getLong(2);
+            long replayed = sums[(int) (userId - fromId)];
+            users[0]++;
+            if (recorded != replayed) {
+                mismatches.add(mismatch(userId, recorded, replayed));
+            }
+        });
+        mismatches.sort((a, b) -> Long.compare(a.getUserId(), b.getUserId()));
+        return new ReplayedRange(users[0], rows[0], mismatches);
+    }
+
+    /** 지정한 사용자들만 다시 비교 - 점수가 같아진 사용자는 결과에서 빠짐 */
+    public List<ScoreMismatchDto> findMismatches(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return List.of();
+        Long[] ids = userIds.toArray(Long[]::new);
+        List<ScoreMismatchDto> mismatches = new ArrayList<>();
+        jdbcTemplate.query(connection -> {
+            var ps = connection.prepareStatement(usersSql);
+            ps.setArray(1, connection.createArrayOf("bigint", ids));
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            long recorded = rs.getLong("score");
+            long replayed = rs.getLong("replayed");
+            if (recorded != replayed) {
+                mismatches.add(mismatch(rs.getLong("user_id"), recorded, replayed));
+            }
+        });
+        mismatches.sort((a, b) -> Long.compare(a.getUserId(), b.getUserId()));
+        return mismatches;
+    }
+
+    /**
+     * 불일치한 점수를 재집계 값으로 UPDATE 한 번에 보정 후 보정한 user_id 반환
+     * 확인한 뒤 점수가 바뀐 사용자(recordedScore 와 다른 사용자)는 건너뜁니다.
+     */
+    public List<Long> applyCorrections(Collection<ScoreMismatchDto> mismatches) {
+        if (mismatches.isEmpty()) return List.of();
+
+        Long[] userIds = mismatches.stream().map(ScoreMismatchDto::getUserId).toArray(Long[]::new);
+        Long[] recorded = mismatches.stream().map(ScoreMismatchDto::getRecordedScore).toArray(Long[]::new);
+        Long[] replayed = mismatches.stream().map(ScoreMismatchDto::getReplayedScore).toArray(Long[]::new);
+
+        return jdbcTemplate.query(connection -> {
+            var ps = connection.prepareStatement(applySql);
+            ps.setArray(1, connection.createArrayOf("bigint", userIds));
+            ps.setArray(2, connection.createArrayOf("bigint", recorded));
+            ps.setArray(3, connection.createArrayOf("bigint", replayed));
+            return ps;
+        }, (rs, rowNum) -> rs.getLong(1));
+    }
+
+    private static ScoreMismatchDto mismatch(long userId, long recorded, long replayed) {
+        return ScoreMismatchDto.builder()
+                .userId(userId)
+                .recordedScore(recorded)
+                .replayedScore(replayed)
+                .difference(replayed - recorded)
+                .build();
+    }
+}
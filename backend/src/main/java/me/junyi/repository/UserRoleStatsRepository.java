@@ -0,0 +1,100 @@
+package me.junyi.repository;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Optional;
+
+// 사용자별 역할별 사건 통계 리포지토리 (user_role_stats 테이블, V6 마이그레이션)
+// 참여 건수 / 해결 건수는 사건 참여·담당 변경·결과 확인 트랜잭션 안에서 증감하고,
+// 랭킹 적재(ranking_*.sql)는 case_participation 대신 이 테이블을 읽습니다.
+@Repository
+public class UserRoleStatsRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("classpath:sql/user_role_stats_apply.sql")
+    private Resource applySqlFile;
+    private String applySql;
+
+    @Value("classpath:sql/user_role_stats_delete_range.sql")
+    private Resource deleteRangeSqlFile;
+    private String deleteRangeSql;
+
+    @Value("classpath:sql/user_role_stats_rebuild.sql")
+    private Resource rebuildSqlFile;
+    private String rebuildSql;
+
+    @Value("classpath:sql/user_role_stats_user_range.sql")
+    private Resource userRangeSqlFile;
+    private String userRangeSql;
+
+    public UserRoleStatsRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void loadSqlFiles() {
+        try {
+            this.applySql = readSql(applySqlFile);
+            this.deleteRangeSql = readSql(deleteRangeSqlFile);
+            this.rebuildSql = readSql(rebuildSqlFile);
+            this.userRangeSql = readSql(userRangeSqlFile);
+        } catch (IOException e) {
+            throw new RuntimeException("역할별 통계 SQL 파일을 로드하는 데 실패했습니다.", e);
+        }
+    }
+
+    private static String readSql(Resource resource) throws IOException {
+        return StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8).trim();
+    }
+
+    /** (user_id, role) 마다 하나로 합친 증감량 */
+    public record Delta(long userId, String role, long totalDelta, long solvedDelta) {
+    }
+
+    /** 증감량을 INSERT 한 번으로 반영 (같은 (user_id, role) 이 두 번 들어 있으면 안 됨) */
+    public void apply(Collection<Delta> deltas) {
+        if (deltas.isEmpty()) return;
+
+        Long[] userIds = deltas.stream().map(Delta::userId).toArray(Long[]::new);
+        String[] roles = deltas.stream().map(Delta::role).toArray(String[]::new);
+        Long[] totals = deltas.stream().map(Delta::totalDelta).toArray(Long[]::new);
+        Long[] solved = deltas.stream().map(Delta::solvedDelta).toArray(Long[]::new);
+
+        jdbcTemplate.update(connection -> {
+            var ps = connection.prepareStatement(applySql);
+            ps.setArray(1, connection.createArrayOf("bigint", userIds));
+            ps.setArray(2, connection.createArrayOf("varchar", roles));
+            ps.setArray(3, connection.createArrayOf("bigint", totals));
+            ps.setArray(4, connection.createArrayOf("bigint", solved));
+            return ps;
+        });
+    }
+
+    /**
+     * user_id 구간 [fromId, toId) 의 통계를 case_participation 에서 다시 계산
+     * 삭제와 재계산이 한 번에 보이도록 호출 측 트랜잭션 안에서 실행해야 합니다.
+     */
+    public int rebuildRange(long fromId, long toId) {
+        jdbcTemplate.update(deleteRangeSql, fromId, toId);
+        return jdbcTemplate.update(rebuildSql, fromId, toId, fromId, toId, fromId, toId, fromId, toId);
+    }
+
+    /** 전체 사용자의 user_id 범위 [min, max] - 사용자가 없으면 empty */
+    public Optional<long[]> userIdRange() {
+        return jdbcTemplate.query(userRangeSql, rs -> {
+            rs.next();
+            long min = rs.getLong("min_id");
+            if (rs.wasNull()) return Optional.empty();
+            return Optional.of(new long[] {min, rs.getLong("max_id")});
+        });
+    }
+}
@@ -0,0 +1,142 @@
+package me.junyi.service;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import me.junyi.domain.CaseInfo;
+import me.junyi.domain.CaseSuspect;
+import me.junyi.domain.OriginalEvidence;
+import me.junyi.repository.CaseInfoRepository;
+import me.junyi.repository.CaseSuspectRepository;
+import me.junyi.repository.OriginalEvidenceRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 사건 본문 캐시 (case_id -> 제목/내용/난이도 + 원본 증거 + 용의자)
+// 사건 본문과 원본 증거, 용의자는 작성 후 바뀌지 않으므로 한 번 읽은 뒤 메모리에서 재사용합니다.
+// 크기 제한(app.cache.case-content.max-size)을 넘으면 오래 쓰지 않은 사건부터 제거되고,
+// 적중/미적중/제거 수는 cache.* 메트릭(cache=case-content)으로 노출됩니다.
+// 사건 본문을 다시 작성한 경우 invalidate()로 해당 사건을 비워야 합니다.
+@Component
+public class CaseContentCache {
+
+    public static final String CACHE_NAME = "case-content";
+
+    private final CaseInfoRepository caseInfoRepository;
+    private final OriginalEvidenceRepository originalEvidenceRepository;
+    private final CaseSuspectRepository caseSuspectRepository;
+
+    private final LoadingCache<Long, CaseContent> cache;
+
+    public CaseContentCache(CaseInfoRepository caseInfoRepository,
+                            OriginalEvidenceRepository originalEvidenceRepository,
+                            CaseSuspectRepository caseSuspectRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.cache.case-content.max-size:10000}") long maxSize) {
+        this.caseInfoRepository = caseInfoRepository;
+        this.originalEvidenceRepository = originalEvidenceRepository;
+        this.caseSuspectRepository = caseSuspectRepository;
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public CaseContent load(Long caseId) {
+                        return loadAll(Set.of(caseId)).get(caseId);
+                    }
+
+                    @Override
+                    public Map<Long, CaseContent> loadAll(Set<? extends Long> caseIds) {
+                        return CaseContentCache.this.loadAll(caseIds);
+                    }
+                });
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /** 사건 본문 조회 */
+    public CaseContent get(Long caseId) {
+        CaseContent content = cache.get(caseId);
+        if (content == null) {
+            throw new IllegalArgumentException("사건을 찾을 수 없습니다.");
+        }
+        return content;
+    }
+
+    /** 여러 사건의 본문 조회 - 캐시에 없는 사건만 모아 쿼리 3회로 적재 (없는 사건은 결과에서 빠짐) */
+    public Map<Long, CaseContent> getAll(Iterable<Long> caseIds) {
+        return cache.getAll(caseIds);
+    }
+
+    /** 사건 본문을 다시 작성한 경우 호출 */
+    public void invalidate(Long caseId) {
+        cache.invalidate(caseId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private Map<Long, CaseContent> loadAll(Set<? extends Long> caseIds) {
+        List<Long> ids = new ArrayList<>(caseIds);
+
+        Map<Long, List<OriginalEvidence>> evidencesByCase = new HashMap<>();
+        List<OriginalEvidence> evidences = new ArrayList<>(originalEvidenceRepository.findAllByCaseIdIn(ids));
+        evidences.sort(Comparator.comparing(OriginalEvidence::getEvidenceId));
+        for (OriginalEvidence evidence : evidences) {
+            evidencesByCase.computeIfAbsent(evidence.getCaseId(), k -> new ArrayList<>()).add(evidence);
+        }
+
+        Map<Long, List<String>> suspectsByCase = new HashMap<>();
+        List<CaseSuspect> suspects = new ArrayList<>(caseSuspectRepository.findAllByCaseIdIn(ids));
+        suspects.sort(Comparator.comparing(CaseSuspect::getSuspectId));
+        for (CaseSuspect suspect : suspects) {
+            suspectsByCase.computeIfAbsent(suspect.getCaseId(), k -> new ArrayList<>()).add(suspect.getSuspectName());
+        }
+
+        Map<Long, CaseContent> result = new HashMap<>();
+        for (CaseInfo info : caseInfoRepository.findAllById(ids)) {
+            result.put(info.getCaseId(), new CaseContent(
+                    info.getCaseId(),
+                    info.getTitle(),
+                    info.getContent(),
+                    info.getDifficulty(),
+                    List.copyOf(evidencesByCase.getOrDefault(info.getCaseId(), List.of())),
+                    List.copyOf(suspectsByCase.getOrDefault(info.getCaseId(), List.of()))
+            ));
+        }
+        return result;
+    }
+
+    /**
+     * 작성 후 바뀌지 않는 사건 본문
+     * 여러 요청이 같은 인스턴스를 공유하므로 evidences의 OriginalEvidence를 수정하면 안 됩니다.
+     */
+    public record CaseContent(Long caseId, String title, String content, Integer difficulty,
+                              List<OriginalEvidence> evidences, List<String> suspects) {
+
+        /** 진짜 증거 (is_fake_candidate = false) */
+        public List<OriginalEvidence> trueEvidences() {
+            return evidences.stream()
+                    .filter(e -> Boolean.FALSE.equals(e.getIsFakeCandidate()))
+                    .collect(Collectors.toList());
+        }
+
+        /** 거짓 증거 후보 (is_fake_candidate = true) */
+        public List<OriginalEvidence> fakeCandidates() {
+            return evidences.stream()
+                    .filter(e -> Boolean.TRUE.equals(e.getIsFakeCandidate()))
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package me.junyi.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.junyi.config.AsyncConfig;
+import me.junyi.domain.CaseStatus;
+import me.junyi.dto.CaseStatusEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+// 사건 상태 변경 SSE 발행 서비스
+// 대시보드는 목록을 주기적으로 다시 받는 대신 /api/cases/stream 을 구독해 상태 변경 알림을 받습니다.
+// 알림이 없는 동안에도 프록시/브라우저가 연결을 끊지 않고 끊긴 연결을 정리할 수 있도록 주기적으로 주석 이벤트(heartbeat)를 보냅니다.
+@Slf4j
+@Service
+public class CaseEventService {
+
+    public static final String EVENT_NAME = "case-status";
+
+    // 상태별로 사용자 개인이 아닌 역할 전체 목록이 바뀌는 경우 (예: '조작' → 모든 경찰의 접수 대기 목록)
+    private static final Map<CaseStatus, Set<String>> ROLE_AUDIENCE = Map.of(
+            CaseStatus.FABRICATED, Set.of(RankingService.POLICE),
+            CaseStatus.RECEIVED, Set.of(RankingService.POLICE)
+    );
+
+    private final long timeoutMillis;
+
+    // user_id -> 구독 중인 연결, 역할 -> 구독 중인 연결 (마지막 연결이 끝나면 키도 제거)
+    private final Map<Long, List<SseEmitter>> emittersByUser = new ConcurrentHashMap<>();
+    private final Map<String, List<SseEmitter>> emittersByRole = new ConcurrentHashMap<>();
+
+    public CaseEventService(@Value("${app.sse.timeout-ms:1800000}") long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /** 사용자/역할 단위 구독 등록 */
+    public SseEmitter subscribe(Long userId, String role) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+
+        register(emittersByUser, userId, emitter);
+        register(emittersByRole, role, emitter);
+
+        Runnable remove = () -> {
+            unregister(emittersByUser, userId, emitter);
+            unregister(emittersByRole, role, emitter);
+        };
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        return emitter;
+    }
+
+    // 목록 생성/추가와 제거/빈 목록 삭제를 키 단위로 원자적으로 처리 (제거 직전의 빈 목록에 추가되어 연결이 사라지지 않도록)
+    private static <K> void register(Map<K, List<SseEmitter>> emitters, K key, SseEmitter emitter) {
+        emitters.compute(key, (k, list) -> {
+            List<SseEmitter> target = list != null ? list : new CopyOnWriteArrayList<>();
+            target.add(emitter);
+            return target;
+        });
+    }
+
+    private static <K> void unregister(Map<K, List<SseEmitter>> emitters, K key, SseEmitter emitter) {
+        emitters.computeIfPresent(key, (k, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    /** 구독 중인 모든 연결에 주석 이벤트 전송 - 끊어진 연결은 이때 정리됨 */
+    @Scheduled(fixedDelayString = "${app.sse.heartbeat-ms:15000}")
+    public void sendHeartbeat() {
+        Set<SseEmitter> targets = ConcurrentHashMap.newKeySet();
+        emittersByUser.values().forEach(targets::addAll);
+        if (targets.isEmpty()) return;
+
+        send(targets, () -> SseEmitter.event().comment("heartbeat"));
+        log.debug("SSE heartbeat 전송 (연결 {}개)", targets.size());
+    }
+
+    /**
+     * 상태 변경이 커밋된 뒤에만 발행 (롤백된 변경은 알리지 않음)
+     * 느린 구독자에게 보내는 동안 요청 스레드가 묶이지 않도록 비동기 실행기(AsyncConfig)에서 전송합니다.
+     */
+    @Async(AsyncConfig.APPLICATION_TASK_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCaseStatusChanged(CaseStatusEvent event) {
+        // 같은 연결이 사용자/역할 양쪽으로 걸릴 수 있으므로 중복 제거 후 한 번씩 전송
+        Set<SseEmitter> targets = ConcurrentHashMap.newKeySet();
+
+        Stream.of(event.clientId(), event.culpritId(), event.policeId(), event.detectiveId())
+                .filter(Objects::nonNull)
+                .map(emittersByUser::get)
+                .filter(Objects::nonNull)
+                .forEach(targets::addAll);
+
+        ROLE_AUDIENCE.getOrDefault(event.status(), Set.of()).stream()
+                .map(emittersByRole::get)
+                .filter(Objects::nonNull)
+                .forEach(targets::addAll);
+
+        send(targets, () -> SseEmitter.event().name(EVENT_NAME).data(event));
+    }
+
+    private static void send(Collection<SseEmitter> targets, Supplier<SseEmitter.SseEventBuilder> event) {
+        for (SseEmitter emitter : targets) {
+            try {
+                emitter.send(event.get());
+            } catch (IOException | IllegalStateException e) {
+                // 끊어진 연결 - completeWithError가 onError 콜백으로 목록에서 제거
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
@@ -1,24 +1,24 @@
 package me.junyi.service;
 
-import jakarta.annotation.PostConstruct;
-import org.springframework.core.io.Resource;
 import me.junyi.domain.*;
 import me.junyi.dto.*;
 import me.junyi.repository.*;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.StreamUtils;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map; // Map 추가
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import java.util.stream.Stream;
 
 @Service
 public class CaseService {
@@ -26,53 +26,62 @@ public class CaseService {
     private final CaseInfoRepository caseInfoRepository;
     private final CaseParticipationRepository participationRepository;
     private final CaseSuspectRepository caseSuspectRepository;
-    private final OriginalEvidenceRepository originalEvidenceRepository;
+    private final CaseContentCache caseContentCache; // 사건 본문/원본 증거/용의자 캐시
     private final SubmittedEvidenceRepository submittedEvidenceRepository;
-    private final ScoreLogRepository scoreLogRepository; // SCORE_LOG Repository
-    private final AppUserRepository appUserRepository;
+    private final FabricationRepository fabricationRepository; // 증거 조작 일괄 쓰기 (고정 문장 수)
+    private final CaseTransitionRepository caseTransitionRepository; // 조건부 사건 상태 전이
+    private final ScoreLedgerRepository scoreLedgerRepository; // 점수 증가 + SCORE_LOG 기록
+    private final UserIdentityCache userIdentityCache; // user_id <-> 닉네임 캐시 (점수 제외)
+    private final DetectiveCaseRepository detectiveCaseRepository; // 탐정 대시보드 조회 전용
+    private final PoliceCaseRepository policeCaseRepository; // 경찰 업무 큐 조회 전용
+    private final RankingService rankingService; // 메모리 랭킹 (점수/참여 변경 반영)
+    private final CaseRepository caseRepository; // available_cases.sql 조회
+    private final ApplicationEventPublisher eventPublisher; // 사건 상태 변경 이벤트 (커밋 후 SSE 전송)
+    private final ChangeVersions changeVersions; // 사건 목록 조회 ETag (커밋 후 버전 증가)
+    private final ReadFanOut readFanOut; // 독립적인 조회 동시 실행
     private final JdbcTemplate jdbcTemplate; // Native Query를 위한 JdbcTemplate
 
 
-    // ⭐⭐ 1. SQL 파일을 주입받을 필드 추가
-    @Value("classpath:sql/available_cases.sql")
-    private Resource availableCasesSqlFile;
-
-    // ⭐⭐ 2. SQL 내용을 저장할 필드 추가
-    private String availableCasesSql;
-
-
     // 생성자 문법 수정 및 모든 필드 주입
     public CaseService(CaseInfoRepository caseInfoRepository, CaseParticipationRepository participationRepository,
-                       OriginalEvidenceRepository originalEvidenceRepository, SubmittedEvidenceRepository submittedEvidenceRepository,
-                       AppUserRepository appUserRepository, JdbcTemplate jdbcTemplate, ScoreLogRepository scoreLogRepository, CaseSuspectRepository caseSuspectRepository) {
+                       CaseContentCache caseContentCache, SubmittedEvidenceRepository submittedEvidenceRepository,
+                       UserIdentityCache userIdentityCache, JdbcTemplate jdbcTemplate, ScoreLedgerRepository scoreLedgerRepository, CaseSuspectRepository caseSuspectRepository,
+                       DetectiveCaseRepository detectiveCaseRepository, PoliceCaseRepository policeCaseRepository,
+                       RankingService rankingService, CaseRepository caseRepository,
+                       ApplicationEventPublisher eventPublisher, ReadFanOut readFanOut,
+                       FabricationRepository fabricationRepository, CaseTransitionRepository caseTransitionRepository,
+                       ChangeVersions changeVersions) {
         this.caseInfoRepository = caseInfoRepository;
         this.participationRepository = participationRepository;
         this.caseSuspectRepository = caseSuspectRepository;
-        this.originalEvidenceRepository = originalEvidenceRepository;
+        this.caseContentCache = caseContentCache;
         this.submittedEvidenceRepository = submittedEvidenceRepository;
-        this.appUserRepository = appUserRepository;
+        this.userIdentityCache = userIdentityCache;
         this.jdbcTemplate = jdbcTemplate;
-        this.scoreLogRepository = scoreLogRepository;
+        this.scoreLedgerRepository = scoreLedgerRepository;
+        this.detectiveCaseRepository = detectiveCaseRepository;
+        this.policeCaseRepository = policeCaseRepository;
+        this.rankingService = rankingService;
+        this.caseRepository = caseRepository;
+        this.eventPublisher = eventPublisher;
+        this.readFanOut = readFanOut;
+        this.fabricationRepository = fabricationRepository;
+        this.caseTransitionRepository = caseTransitionRepository;
+        this.changeVersions = changeVersions;
     }
 
-
-    // ⭐⭐ 3. 애플리케이션 시작 시점에 SQL 파일을 로드하는 메서드 추가
-    @PostConstruct
-    public void loadSqlFile() {
-        try {
-            this.availableCasesSql = StreamUtils.copyToString(
-                    availableCasesSqlFile.getInputStream(),
-                    StandardCharsets.UTF_8
-            ).trim();
-        } catch (IOException e) {
-            throw new RuntimeException("SQL 파일을 로드하는 데 실패했습니다: " + availableCasesSqlFile.getFilename(), e);
-        }
+    // 커서가 없으면 첫 페이지 (키는 모두 1부터 시작하는 시퀀스)
+    private static long afterOrFirst(Long after) {
+        return after != null ? after : 0L;
     }
 
 
-    /** 1. 사건 목록 조회 (STATUS='등록') */
-    public List<CaseInfo> getAvailableCases() {
-        return caseInfoRepository.findAllByStatus("등록");
+    /** 1. 사건 목록 조회 (STATUS='등록') - case_id 기준 keyset 페이지 */
+    public CursorPage<CaseInfo> getAvailableCases(Long after, Integer size) {
+        int limit = CursorPage.limitOf(after, size);
+        List<CaseInfo> fetched = caseInfoRepository.findAllByStatusAndCaseIdGreaterThanOrderByCaseIdAsc(
+                CaseStatus.REGISTERED, afterOrFirst(after), PageRequest.ofSize(limit + 1));
+        return CursorPage.of(fetched, limit, CaseInfo::getCaseId);
     }
 
 
@@ -91,24 +100,21 @@ public class CaseService {
 
 
         // ⭐ criminalId를 사용하여 범인의 닉네임을 조회 (치환에 사용)
-        AppUser criminal = appUserRepository.findById(criminalId)
+        String criminalNickname = userIdentityCache.find(criminalId)
+                .map(UserIdentityCache.UserIdentity::nickname)
                 .orElseThrow(() -> new IllegalArgumentException("범인 사용자 정보를 찾을 수 없습니다."));
-        String criminalNickname = criminal.getNickname();
 
 
-        // 3) 제출된 증거 구성 (진짜 + 선택된 거짓)
-        List<OriginalEvidence> trueEvidences =
-                originalEvidenceRepository.findByCaseIdAndIsFakeCandidate(caseId, false);
+        // 3) 제출된 증거 구성 (진짜 + 선택된 거짓) - 원본 증거는 캐시에서 조회
+        CaseContentCache.CaseContent content = caseContentCache.get(caseId);
+        List<OriginalEvidence> trueEvidences = content.trueEvidences();
 
         OriginalEvidence selectedFake =
-                originalEvidenceRepository.findByCaseIdAndIsFakeCandidate(caseId, true).stream()
+                content.fakeCandidates().stream()
                         .filter(e -> e.getDescription().equals(fakeEvidenceDescription))
                         .findFirst()
                         .orElseThrow(() -> new IllegalArgumentException("선택한 거짓 증거를 찾을 수 없습니다."));
 
-        // 기존 제출 증거 삭제
-        submittedEvidenceRepository.deleteAll(submittedEvidenceRepository.findAllByCaseId(caseId));
-
         // 새 증거 목록 구성
         List<SubmittedEvidence> submittedList = trueEvidences.stream()
                 .map(e -> new SubmittedEvidence(null, e.getCaseId(), e.getDescription(), true))
@@ -127,17 +133,16 @@ public class CaseService {
                 false
         ));
 
-        submittedEvidenceRepository.saveAll(submittedList);
-
-        // 4) 사건 상태 업데이트 → 조작 완료 시에만 변경
-        CaseInfo caseInfo = caseInfoRepository.findById(caseId).orElseThrow();
-        caseInfo.setStatus("조작");
+        // 4) 사건 상태 업데이트 → '등록' 상태일 때만 '조작'으로 변경
+        // 상태 변경과 범인 할당(true_criminal_id가 비어 있을 때만)을 조건부 UPDATE 1회로 처리
+        // 증거보다 먼저 실행하므로 동시에 들어온 조작 요청은 증거를 건드리기 전에 충돌로 끝남
+        CaseInfo saved = fabricationRepository.markFabricated(caseId, criminalId);
 
-        if (caseInfo.getTrueCriminalId() == null) {
-            caseInfo.setTrueCriminalId(criminalId); // 범인을 true_criminal_id에 할당
-            caseInfoRepository.save(caseInfo); // 변경사항 저장
-        }
-        return caseInfoRepository.save(caseInfo);
+        // 기존 제출 증거 삭제 + 새 목록 저장 (증거 개수와 무관하게 DELETE 1회 + INSERT 1회)
+        fabricationRepository.replaceSubmittedEvidence(caseId, submittedList);
+        eventPublisher.publishEvent(CaseStatusEvent.of(participation, CaseStatus.FABRICATED));
+        touchVersions(participation);
+        return saved;
     }
 
 
@@ -148,156 +153,118 @@ public class CaseService {
         CaseParticipation participation = participationRepository.findByCaseId(caseId)
                 .orElseThrow(() -> new IllegalArgumentException("참여 레코드를 찾을 수 없습니다."));
 
+        // 사건 상태 업데이트: '접수중' → '배정' (조건부 UPDATE - 중복 배정이면 점수 부여 전에 충돌)
+        CaseInfo saved = caseTransitionRepository.transition(caseId, CaseStatus.RECEIVED, CaseStatus.ASSIGNED);
+
+        Long previousPoliceId = participation.getPoliceId();
+        Long previousDetectiveId = participation.getDetectiveId();
         participation.setPoliceId(policeId);
         participation.setDetectiveId(detectiveId);
-        participationRepository.save(participation);
+        participationRepository.save(participation); // 읽은 뒤 다른 요청이 참여 레코드를 바꿨으면 @Version 충돌
 
-        // B. 경찰 점수 +2, 탐정 점수 +1 업데이트
-        updateUserScore(policeId, 2, caseId, "경찰 배정 (초기 점수)");
-        updateUserScore(detectiveId, 1, caseId, "탐정 배정 (초기 점수)");
+        trackParticipantChange(previousPoliceId, policeId, RankingService.POLICE);
+        trackParticipantChange(previousDetectiveId, detectiveId, RankingService.DETECTIVE);
 
-        // C. 사건 상태 업데이트: '배정'
-        CaseInfo caseInfo = caseInfoRepository.findById(caseId).orElseThrow();
-        caseInfo.setStatus("배정");
-        return caseInfoRepository.save(caseInfo);
+        // B. 경찰 점수 +2, 탐정 점수 +1 업데이트 (배치 1회)
+        updateUserScores(scoreLedgerRepository.batch()
+                .add(policeId, caseId, 2, "경찰 배정 (초기 점수)")
+                .add(detectiveId, caseId, 1, "탐정 배정 (초기 점수)"));
+
+        eventPublisher.publishEvent(CaseStatusEvent.of(participation, CaseStatus.ASSIGNED));
+        touchVersions(participation, previousPoliceId, previousDetectiveId);
+        return saved;
     }
 
     // 헬퍼 메서드: 점수 업데이트 및 로그 기록 (SCORE_LOG 추가)
+    // score = score + ? 원자적 증가는 바로 실행되고, SCORE_LOG는 커밋 후 ScoreLogWriter가 배치로 기록
     private void updateUserScore(Long userId, int scoreChange, Long caseId, String reason) {
-        AppUser user = appUserRepository.findById(userId).orElseThrow();
-        user.setScore(user.getScore() + scoreChange);
-        appUserRepository.save(user);
-
-        // 🚨 SCORE_LOG 기록
-        ScoreLog log = ScoreLog.builder()
-                .userId(userId)
-                .caseId(caseId)
-                .scoreChange(scoreChange)
-                .reason(reason)
-                .build();
-        scoreLogRepository.save(log);
+        scoreLedgerRepository.apply(userId, caseId, scoreChange, reason);
+        rankingService.applyScoreChange(userId, scoreChange);
     }
 
-    /** 4. 탐정 - 배정된 사건 조회 (STATUS='배정') */
-    public List<CaseDetectiveDto> getAssignedCasesByDetectiveId(Long detectiveId) {
-
-        // 1) CaseParticipation 중 탐정 ID가 내가 맞는 참여 찾기
-        List<CaseParticipation> participations =
-                participationRepository.findAllByDetectiveId(detectiveId);
-
-        return participations.stream()
-                .map(p -> {
-                    CaseInfo info = caseInfoRepository.findById(p.getCaseId()).orElse(null);
-                    if (info == null) return null;
-
-                    // STATUS='배정' 상태인 사건만 탐정에게 보여야 함
-                    if (!"배정".equals(info.getStatus())) return null;
-
-                    // 경찰/의뢰인 닉네임
-                    String clientNickname = appUserRepository.findById(p.getClientId())
-                            .map(AppUser::getNickname).orElse("미정");
+    // 헬퍼 메서드: 여러 사용자의 점수 변경을 JDBC 배치 한 번으로 적용
+    private void updateUserScores(ScoreLedgerRepository.Batch batch) {
+        batch.flush();
+        batch.entries().forEach(e -> rankingService.applyScoreChange(e.userId(), e.scoreChange()));
+    }
 
-                    String policeNickname = appUserRepository.findById(p.getPoliceId())
-                            .map(AppUser::getNickname).orElse("미정");
+    // 헬퍼 메서드: 커밋 후 사건 목록과 참여자(바뀌기 전 담당자 포함)별 사건 목록의 ETag 버전 증가
+    private void touchVersions(CaseParticipation participation, Long... previousIds) {
+        changeVersions.touchCase(Stream.concat(
+                Stream.of(participation.getClientId(), participation.getCriminalId(),
+                        participation.getPoliceId(), participation.getDetectiveId()),
+                Arrays.stream(previousIds)).toArray(Long[]::new));
+    }
 
-                    // ⭐ 용의자 목록 조회
-                    List<String> suspects = caseSuspectRepository.findAllByCaseId(info.getCaseId()).stream()
-                            .map(CaseSuspect::getSuspectName)
-                            .collect(Collectors.toList());
+    // 헬퍼 메서드: 참여자(경찰/탐정)가 새로 지정되거나 바뀐 경우 역할별 참여 건수 반영
+    private void trackParticipantChange(Long previousId, Long newId, String role) {
+        if (Objects.equals(previousId, newId)) return;
+        if (previousId != null) rankingService.applyCaseLeft(previousId, role);
+        if (newId != null) rankingService.applyCaseJoined(newId, role);
+    }
 
-                    return CaseDetectiveDto.builder()
-                            .activeId(p.getPartId())
-                            .caseId(info.getCaseId())
-                            .caseTitle(info.getTitle())
-                            .caseDescription(info.getContent())
-                            .difficulty(info.getDifficulty())
-                            .clientNickname(clientNickname)
-                            .policeNickname(policeNickname)
-                            .status(info.getStatus())       // '배정'
-                            .culpritGuess(null)            // 아직 추리 전
-                            .result(null)                  // 결과 없음
-                            .actualCulprit(null)           // 결과 없음
-                            .suspects(suspects)            // ⭐ 용의자 목록 추가
-                            .build();
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+    /** 4. 탐정 - 배정된 사건 조회 (STATUS='배정') */
+    public CursorPage<CaseDetectiveDto> getAssignedCasesByDetectiveId(Long detectiveId, Long after, Integer size) {
+        // 사건/닉네임/용의자 목록을 JOIN 쿼리 한 번으로 조회 (사건 수와 무관하게 쿼리 1회)
+        int limit = CursorPage.limitOf(after, size);
+        List<CaseDetectiveDto> fetched =
+                detectiveCaseRepository.findAssignedCases(detectiveId, afterOrFirst(after), limit + 1);
+        return CursorPage.of(withSuspects(fetched), limit, CaseDetectiveDto::getActiveId);
     }
 
 
     /** 5. 탐정 - 완료된 사건 조회 (STATUS='결과 확인') */
-    public List<CaseDetectiveDto> getCompletedCasesByDetectiveId(Long detectiveId) {
-
-        List<CaseParticipation> participations =
-                participationRepository.findAllByDetectiveId(detectiveId);
-
-        return participations.stream()
-                .map(p -> {
-                    CaseInfo info = caseInfoRepository.findById(p.getCaseId()).orElse(null);
-                    if (info == null) return null;
-
-                    // 🚨 STATUS = '결과 확인'만
-                    if (!"결과 확인".equals(info.getStatus())) return null;
-
-                    String clientNickname = appUserRepository.findById(p.getClientId())
-                            .map(AppUser::getNickname).orElse("미정");
-
-                    String policeNickname = appUserRepository.findById(p.getPoliceId())
-                            .map(AppUser::getNickname).orElse("미정");
-
-
-                    // ⭐ 용의자 목록 조회
-                    List<String> suspects = caseSuspectRepository.findAllByCaseId(info.getCaseId()).stream()
-                            .map(CaseSuspect::getSuspectName)
-                            .collect(Collectors.toList());
+    public CursorPage<CaseDetectiveDto> getCompletedCasesByDetectiveId(Long detectiveId, Long after, Integer size) {
+        int limit = CursorPage.limitOf(after, size);
+        List<CaseDetectiveDto> fetched =
+                detectiveCaseRepository.findCompletedCases(detectiveId, afterOrFirst(after), limit + 1);
+        return CursorPage.of(withSuspects(fetched), limit, CaseDetectiveDto::getActiveId);
+    }
 
-                    return CaseDetectiveDto.builder()
-                            .activeId(p.getPartId())
-                            .caseId(info.getCaseId())
-                            .caseTitle(info.getTitle())
-                            .caseDescription(info.getContent())
-                            .difficulty(info.getDifficulty())
-                            .clientNickname(clientNickname)
-                            .policeNickname(policeNickname)
-                            .status(info.getStatus())
-                            .culpritGuess(p.getDetectiveGuessNickname())
-                            .result(p.getIsSolved() != null ?
-                                    (p.getIsSolved() ? "감사" : "부고") : null)
-                            .actualCulprit(appUserRepository.findById(info.getTrueCriminalId())
-                                    .map(AppUser::getNickname).orElse("미정"))
-                            .suspects(suspects) // ⭐ 용의자 목록 추가
-                            .build();
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+    // 헬퍼 메서드: 용의자 목록은 사건 본문 캐시에서 채움 (캐시에 없는 사건만 한 번에 적재)
+    private List<CaseDetectiveDto> withSuspects(List<CaseDetectiveDto> cases) {
+        Map<Long, CaseContentCache.CaseContent> contents =
+                caseContentCache.getAll(cases.stream().map(CaseDetectiveDto::getCaseId).distinct().toList());
+        for (CaseDetectiveDto dto : cases) {
+            CaseContentCache.CaseContent content = contents.get(dto.getCaseId());
+            dto.setSuspects(content != null ? content.suspects() : List.of());
+        }
+        return cases;
     }
 
 
     /** 6. 의뢰인 - 의뢰한 사건 조회 */
-    public List<CaseClientDto> getCasesByClientId(Long clientId) {
-        // 1. clientId로 CaseParticipation 목록 조회
-        List<CaseParticipation> participations = participationRepository.findAllByClientId(clientId);
-
-        // 2. 각 participation의 caseId를 사용하여 CaseInfo 조회 및 DTO 변환
-        return participations.stream()
+    public CursorPage<CaseClientDto> getCasesByClientId(Long clientId, Long after, Integer size) {
+        // 1. clientId로 CaseParticipation 목록 조회 (part_id 기준 keyset 페이지)
+        int limit = CursorPage.limitOf(after, size);
+        List<CaseParticipation> fetched = participationRepository.findAllByClientIdAndPartIdGreaterThanOrderByPartIdAsc(
+                clientId, afterOrFirst(after), PageRequest.ofSize(limit + 1));
+        CursorPage<CaseParticipation> page = CursorPage.of(fetched, limit, CaseParticipation::getPartId);
+
+        // 2. 페이지의 CaseInfo와 탐정/실제 범인 닉네임을 한 번에 조회 (행마다 조회하지 않음)
+        Map<Long, CaseInfo> infos = caseInfosById(page.items());
+        Map<Long, UserIdentityCache.UserIdentity> users = userIdentityCache.getAll(Stream.concat(
+                page.items().stream().map(CaseParticipation::getDetectiveId),
+                infos.values().stream().map(CaseInfo::getTrueCriminalId)).toList());
+
+        // 3. DTO 변환
+        List<CaseClientDto> items = page.items().stream()
                 .map(p -> {
-                    Optional<CaseInfo> caseInfoOpt = caseInfoRepository.findById(p.getCaseId());
+                    Optional<CaseInfo> caseInfoOpt = Optional.ofNullable(infos.get(p.getCaseId()));
                     return caseInfoOpt.map(info -> {
                         // CaseInfo와 CaseParticipation의 데이터를 CaseClientDto로 조합
-                        String status = info.getStatus();
+                        CaseStatus status = info.getStatus();
                         String result = null; // CaseClientDto에 따라 CaseResult 도메인이 있다면 추가 조회가 필요함
 
-                        if ("결과 확인".equals(status)) {
+                        if (status == CaseStatus.RESOLVED) {
                             result = p.getIsSolved() != null ? (p.getIsSolved() ? "감사" : "부고") : "미정";
                         }
 
                         // 탐정 닉네임 조회 (DetectiveId가 있는 경우)
-                        String detectiveNickname = (p.getDetectiveId() != null) ?
-                                appUserRepository.findById(p.getDetectiveId()).map(AppUser::getNickname).orElse("미배정") : "미배정";
+                        String detectiveNickname = nicknameOf(users, p.getDetectiveId(), "미배정");
 
                         // ⭐실제 범인 닉네임 조회 (CaseInfo에서 trueCriminalId 사용)
-                        String actualCulpritNickname = (info.getTrueCriminalId() != null) ?
-                                appUserRepository.findById(info.getTrueCriminalId()).map(AppUser::getNickname).orElse(null) : null;
+                        String actualCulpritNickname = nicknameOf(users, info.getTrueCriminalId(), null);
 
                         return CaseClientDto.builder()
                                 .caseId(info.getCaseId())
@@ -315,74 +282,23 @@ public class CaseService {
                 })
                 .filter(java.util.Objects::nonNull)
                 .collect(Collectors.toList());
-    }
 
-    /** 7. 경찰 - 탐정 배정 대기 중인 사건 조회 (STATUS='조작') */
+        return new CursorPage<>(items, page.nextCursor());
+    }
 
+    /** 7. 경찰 - 탐정 배정 대기 중인 사건 조회 (STATUS='조작' 미접수 + 내가 접수한 '접수중') */
     public List<PendingCaseDto> getPendingCasesForPolice(Long policeId) {
-
-        Iterable<CaseParticipation> iterable = participationRepository.findAll();
-
-        List<CaseParticipation> participations =
-                StreamSupport.stream(iterable.spliterator(), false)
-                        .filter(p -> {
-                            CaseInfo info = caseInfoRepository.findById(p.getCaseId()).orElse(null);
-                            if (info == null) return false;
-
-                            boolean isPending = "조작".equals(info.getStatus()) || "접수중".equals(info.getStatus());
-                            boolean isMineOrUnassigned =
-                                    p.getPoliceId() == null || p.getPoliceId().equals(policeId);
-
-                            return isPending && isMineOrUnassigned;
-                        })
-                        .toList();
-
-        return participations.stream()
-                .map(p -> {
-                    CaseInfo info = caseInfoRepository.findById(p.getCaseId()).orElse(null);
-                    if (info == null) return null;
-
-                    return PendingCaseDto.builder()
-                            .activeId(p.getPartId())
-                            .caseId(info.getCaseId())
-                            .caseTitle(info.getTitle())
-                            .caseDescription(info.getContent())
-                            .difficulty(info.getDifficulty())
-                            .status(info.getStatus())
-                            .clientNickname(
-                                    appUserRepository.findById(p.getClientId())
-                                            .map(AppUser::getNickname)
-                                            .orElse("미정")
-                            )
-                            .culpritNickname(
-                                    appUserRepository.findById(p.getCriminalId())
-                                            .map(AppUser::getNickname)
-                                            .orElse("미정")
-                            )
-                            .build();
-                })
-                .filter(Objects::nonNull)
-                .toList();
+        // police_id / status 인덱스 조건으로만 조회 (다른 경찰의 사건, 종료된 사건은 읽지 않음)
+        return policeCaseRepository.findPendingCases(policeId);
     }
 
 
-
-
     /** 8. 범인 - 조작 참여 가능 사건 조회 (STATUS='등록') */
-    public List<AvailableCaseDto> getAvailableCasesForCulprit() {
-
-        String sql = this.availableCasesSql;
-
-        return jdbcTemplate.query(sql, (rs, rowNum) ->
-                AvailableCaseDto.builder()
-                        .activeId(rs.getLong("active_id"))
-                        .caseId(rs.getLong("case_id"))
-                        .caseTitle(rs.getString("title"))
-                        .caseDescription(rs.getString("content"))
-                        .difficulty(rs.getInt("difficulty"))
-                        .clientNickname(rs.getString("client_nickname"))
-                        .build()
-        );
+    public CursorPage<AvailableCaseDto> getAvailableCasesForCulprit(Long after, Integer size) {
+        // available_cases.sql (part_id 기준 keyset 페이지)
+        int limit = CursorPage.limitOf(after, size);
+        List<AvailableCaseDto> fetched = caseRepository.getAvailableCasesForCulprit(afterOrFirst(after), limit + 1);
+        return CursorPage.of(fetched, limit, AvailableCaseDto::getActiveId);
     }
 
 
@@ -392,23 +308,24 @@ public class CaseService {
         List<CaseParticipation> participations =
                 participationRepository.findAllByCriminalId(culpritId);
 
+        // CaseInfo와 의뢰인 닉네임을 한 번에 조회 (행마다 조회하지 않음)
+        Map<Long, CaseInfo> infos = caseInfosById(participations);
+        Map<Long, UserIdentityCache.UserIdentity> users = userIdentityCache.getAll(
+                participations.stream().map(CaseParticipation::getClientId).toList());
+
         return participations.stream()
                 .map(p -> {
-                    CaseInfo info = caseInfoRepository.findById(p.getCaseId()).orElse(null);
+                    CaseInfo info = infos.get(p.getCaseId());
                     if (info == null) return null;
 
-                    boolean fakeSelected = "조작".equals(info.getStatus());
+                    boolean fakeSelected = info.getStatus() == CaseStatus.FABRICATED;
 
                     return MyCaseDto.builder()
                             .caseId(info.getCaseId())
                             .activeId(p.getPartId())
                             .caseTitle(info.getTitle())
                             .caseDescription(info.getContent())
-                            .clientNickname(
-                                    appUserRepository.findById(p.getClientId())
-                                            .map(AppUser::getNickname)
-                                            .orElse("미정")
-                            )
+                            .clientNickname(nicknameOf(users, p.getClientId(), "미정"))
                             .difficulty(info.getDifficulty())
                             .status(info.getStatus())
                             .fakeEvidenceSelected(fakeSelected)
@@ -419,6 +336,20 @@ public class CaseService {
     }
 
 
+    // 헬퍼 메서드: 참여 목록의 CaseInfo를 findAllById 한 번으로 조회
+    private Map<Long, CaseInfo> caseInfosById(List<CaseParticipation> participations) {
+        Map<Long, CaseInfo> infos = new HashMap<>();
+        caseInfoRepository.findAllById(participations.stream().map(CaseParticipation::getCaseId).distinct().toList())
+                .forEach(info -> infos.put(info.getCaseId(), info));
+        return infos;
+    }
+
+    // 헬퍼 메서드: 일괄 조회한 사용자 목록에서 닉네임 꺼내기 (id가 없거나 없는 사용자면 기본값)
+    private static String nicknameOf(Map<Long, UserIdentityCache.UserIdentity> users, Long userId, String defaultNickname) {
+        UserIdentityCache.UserIdentity user = userId != null ? users.get(userId) : null;
+        return user != null ? user.nickname() : defaultNickname;
+    }
+
     /** 10. 의뢰인 - 사건 의뢰 처리 (CaseParticipation 생성) */
     @Transactional
     public CaseInfo startCaseByClient(Long caseId, Long clientId) {
@@ -426,7 +357,7 @@ public class CaseService {
         CaseInfo caseInfo = caseInfoRepository.findById(caseId)
                 .orElseThrow(() -> new IllegalArgumentException("사건을 찾을 수 없습니다."));
 
-        if (!"등록".equals(caseInfo.getStatus())) {
+        if (caseInfo.getStatus() != CaseStatus.REGISTERED) {
             throw new IllegalStateException("이미 의뢰가 진행 중이거나 마감된 사건입니다.");
         }
 
@@ -436,6 +367,8 @@ public class CaseService {
                 .clientId(clientId)
                 .build();
         participationRepository.save(newParticipation);
+        rankingService.applyCaseJoined(clientId, RankingService.CLIENT);
+        touchVersions(newParticipation);
 
         // 3. (옵션) 의뢰 시점에서 CaseInfo의 상태를 변경할 수도 있지만,
         //    대부분의 경우 '등록' 상태를 유지하고 범인/경찰 액션 시점에 상태가 변경됩니다.
@@ -455,11 +388,15 @@ public class CaseService {
             throw new IllegalStateException("이미 범인이 참여한 사건입니다.");
         }
 
+        // 두 범인이 동시에 참여하면 둘 다 위 검사를 통과하므로, 먼저 저장한 쪽만 성공하고
+        // 나머지는 @Version 불일치로 충돌 (점수 부여 전에 실패하므로 중복 지급 없음)
         participation.setCriminalId(culpritId);
         participationRepository.save(participation);
+        rankingService.applyCaseJoined(culpritId, RankingService.CULPRIT);
 
         // 2. 범인 점수 +1 업데이트 및 로그 기록 (재사용 가능한 updateUserScore 헬퍼 메서드 사용)
         updateUserScore(culpritId, 1, caseId, "범인 참여 (초기 점수)");
+        touchVersions(participation);
 
         // 3. CaseInfo 상태 확인 (STATUS='등록' 상태를 유지. 범인 조작 후 '조작'으로 변경됨)
         CaseInfo caseInfo = caseInfoRepository.findById(caseId).orElseThrow();
@@ -473,18 +410,14 @@ public class CaseService {
     /** 12. 범인 - 증거 조작용 사건 상세 및 증거 목록 조회 */
     @Transactional(readOnly = true)
     public Map<String, Object> getEvidenceDetailsForFabrication(Long caseId) {
-        // A. CaseInfo 조회
-        CaseInfo caseInfo = caseInfoRepository.findById(caseId)
-                .orElseThrow(() -> new IllegalArgumentException("사건을 찾을 수 없습니다."));
+        // A. 사건 본문 + OriginalEvidence 전체 목록 (진짜 + 거짓 후보 모두 포함) - 캐시에서 조회
+        CaseContentCache.CaseContent content = caseContentCache.get(caseId);
 
-        // B. OriginalEvidence 전체 목록 조회 (진짜 + 거짓 후보 모두 포함)
-        List<OriginalEvidence> allEvidences = originalEvidenceRepository.findAllByCaseId(caseId);
-
-        // C. 결과를 Map으로 구성하여 반환 (프론트엔드 기대 구조와 일치)
+        // B. 결과를 Map으로 구성하여 반환 (프론트엔드 기대 구조와 일치)
         return Map.of(
-                "caseTitle", caseInfo.getTitle(),
-                "caseDescription", caseInfo.getContent(),
-                "originalEvidences", allEvidences
+                "caseTitle", content.title(),
+                "caseDescription", content.content(),
+                "originalEvidences", content.evidences()
         );
     }
 
@@ -494,89 +427,25 @@ public class CaseService {
         CaseParticipation participation = participationRepository.findByCaseId(caseId)
                 .orElseThrow(() -> new IllegalArgumentException("참여 레코드를 찾을 수 없습니다."));
 
+        // 상태 변경: 조작 → 접수중 (조건부 UPDATE - 다른 경찰이 먼저 접수했으면 충돌)
+        CaseInfo saved = caseTransitionRepository.transition(caseId, CaseStatus.FABRICATED, CaseStatus.RECEIVED);
+
         // 경찰 ID 등록
+        Long previousPoliceId = participation.getPoliceId();
         participation.setPoliceId(policeId);
         participationRepository.save(participation);
+        trackParticipantChange(previousPoliceId, policeId, RankingService.POLICE);
 
-        // 상태 변경: 조작 → 접수중
-        CaseInfo caseInfo = caseInfoRepository.findById(caseId)
-                .orElseThrow(() -> new IllegalArgumentException("사건을 찾을 수 없습니다."));
-
-        caseInfo.setStatus("접수중");
-        return caseInfoRepository.save(caseInfo);
+        eventPublisher.publishEvent(CaseStatusEvent.of(participation, CaseStatus.RECEIVED));
+        touchVersions(participation, previousPoliceId);
+        return saved;
     }
 
-    public List<PendingCaseDto> getPendingCasesForPoliceFull() {
-
-        // 🔥 1) STATUS = '조작' 인 사건만 가져오기
-        List<CaseInfo> caseInfos = caseInfoRepository.findAllByStatus("조작");
-
-        return caseInfos.stream().map(info -> {
-
-            CaseParticipation p = participationRepository.findByCaseId(info.getCaseId())
-                    .orElse(null);
-
-            String clientNickname = "알 수 없음";
-            if (p != null && p.getClientId() != null) {
-                clientNickname = appUserRepository.findById(p.getClientId())
-                        .map(AppUser::getNickname)
-                        .orElse("알 수 없음");
-            }
-
-            String culpritNickname = "미지정";
-            if (p != null && p.getCriminalId() != null) {
-                culpritNickname = appUserRepository.findById(p.getCriminalId())
-                        .map(AppUser::getNickname)
-                        .orElse("미지정");
-            }
-
-            return PendingCaseDto.builder()
-                    .activeId(p != null ? p.getPartId() : null)
-                    .caseId(info.getCaseId())
-                    .caseTitle(info.getTitle())
-                    .caseDescription(info.getContent())
-                    .difficulty(info.getDifficulty())
-                    .clientNickname(clientNickname)
-                    .culpritNickname(culpritNickname)
-                    .status(info.getStatus())
-                    .build();
-
-        }).toList();
-    }
-
-    public List<PendingCaseDto> getMyPoliceCases(Long policeId) {
-
-        List<CaseParticipation> participations =
-                StreamSupport.stream(participationRepository.findAll().spliterator(), false)
-                        .filter(p -> policeId.equals(p.getPoliceId())) // 내가 맡은 사건만
-                        .toList();
-
-        return participations.stream()
-                .map(p -> {
-                    CaseInfo info = caseInfoRepository.findById(p.getCaseId()).orElse(null);
-                    if (info == null) return null;
-
-                    return PendingCaseDto.builder()
-                            .activeId(p.getPartId())
-                            .caseId(info.getCaseId())
-                            .caseTitle(info.getTitle())
-                            .caseDescription(info.getContent())
-                            .difficulty(info.getDifficulty())
-                            .status(info.getStatus())
-                            .clientNickname(
-                                    appUserRepository.findById(p.getClientId())
-                                            .map(AppUser::getNickname)
-                                            .orElse("미정")
-                            )
-                            .culpritNickname(
-                                    appUserRepository.findById(p.getCriminalId())
-                                            .map(AppUser::getNickname)
-                                            .orElse("미정")
-                            )
-                            .build();
-                })
-                .filter(Objects::nonNull)
-                .toList();
+    /** 경찰 - 내가 맡은 진행 중 사건 조회 (police_id = 나, '결과 확인' 제외) */
+    public CursorPage<PendingCaseDto> getMyPoliceCases(Long policeId, Long after, Integer size) {
+        int limit = CursorPage.limitOf(after, size);
+        List<PendingCaseDto> fetched = policeCaseRepository.findMyCases(policeId, afterOrFirst(after), limit + 1);
+        return CursorPage.of(fetched, limit, PendingCaseDto::getActiveId);
     }
 
     // 증거를 가져오는 서비스 메서드
@@ -595,9 +464,9 @@ public class CaseService {
             // 범인 ID가 있을 경우
             if (participation.getCriminalId() != null) {
                 // 범인 이름을 가져오기
-                AppUser criminal = appUserRepository.findById(participation.getCriminalId())
+                return userIdentityCache.find(participation.getCriminalId())
+                        .map(UserIdentityCache.UserIdentity::nickname)
                         .orElseThrow(() -> new RuntimeException("범인을 찾을 수 없습니다."));
-                return criminal.getNickname();
             }
         }
 
@@ -610,6 +479,29 @@ public class CaseService {
                 .orElseThrow(() -> new IllegalArgumentException("사건을 찾을 수 없습니다."));
     }
 
+    /**
+     * 14. 사건 세부 정보 (제출된 증거 + 범인 이름)
+     * 사건 존재 확인 / 제출 증거 / 범인 이름 조회는 서로 독립적이므로 동시에 실행합니다.
+     * 범인 이름 조회만 실패한 경우에는 기본값으로 응답하고 partial=true 를 표시합니다.
+     */
+    public Map<String, Object> getCaseDetails(Long caseId) {
+        CompletableFuture<CaseInfo> caseInfo = readFanOut.fork(() -> getCaseInfoById(caseId));
+        CompletableFuture<List<SubmittedEvidence>> evidence = readFanOut.fork(() -> getSubmittedEvidenceForCase(caseId));
+        CompletableFuture<String> culpritName = readFanOut.fork(() -> getCulpritNameByCaseId(caseId));
+
+        readFanOut.join(caseInfo, "사건 정보");
+        List<SubmittedEvidence> evidenceList = readFanOut.join(evidence, "제출 증거");
+        String culprit = readFanOut.joinOrDefault(culpritName, "범인 이름", null);
+
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("culpritName", culprit != null ? culprit : "범인 정보 없음");
+        details.put("evidence", evidenceList);
+        if (culprit == null) {
+            details.put("partial", true);
+        }
+        return details;
+    }
+
 
     /**
      * ⭐ 15. 탐정의 추리를 처리하고 사건 해결 여부를 판단하여 점수를 정산합니다.
@@ -619,12 +511,13 @@ public class CaseService {
         // 필요한 정보 조회
         CaseParticipation participation = participationRepository.findByCaseId(caseId)
                 .orElseThrow(() -> new IllegalArgumentException("참여 레코드를 찾을 수 없습니다."));
-        CaseInfo caseInfo = caseInfoRepository.findById(caseId)
-                .orElseThrow(() -> new IllegalArgumentException("사건 정보를 찾을 수 없습니다."));
+
+        // CaseInfo 상태 업데이트: '배정' → '결과 확인' (조건부 UPDATE)
+        // 추리가 중복 제출되면 두 번째 요청은 여기서 충돌하므로 점수가 두 번 정산되지 않음
+        CaseInfo caseInfo = caseTransitionRepository.transition(caseId, CaseStatus.ASSIGNED, CaseStatus.RESOLVED);
 
         // 탐정이 추측한 닉네임을 user_id로 변환
-        Optional<AppUser> guessedUserOpt = appUserRepository.findByNickname(culpritGuessNickname);
-        Long detectiveGuessId = guessedUserOpt.map(AppUser::getUserId).orElse(null);
+        Long detectiveGuessId = userIdentityCache.idOf(culpritGuessNickname).orElse(null);
 
         // 사건 해결 여부 판단
         boolean isSolved = false;
@@ -639,6 +532,12 @@ public class CaseService {
 
         participationRepository.save(participation);
 
+        // 해결 여부는 참여자 전원의 역할별 성공률에 반영됨 (커밋 직전 user_role_stats INSERT 1회)
+        rankingService.applyCaseResolved(participation.getClientId(), RankingService.CLIENT, isSolved);
+        rankingService.applyCaseResolved(participation.getCriminalId(), RankingService.CULPRIT, isSolved);
+        rankingService.applyCaseResolved(participation.getPoliceId(), RankingService.POLICE, isSolved);
+        rankingService.applyCaseResolved(participation.getDetectiveId(), RankingService.DETECTIVE, isSolved);
+
 
         // 점수 계산 및 부여
         int detectiveScoreChange = 0;
@@ -653,22 +552,22 @@ public class CaseService {
             detectiveScoreChange = 0;
         }
 
-        // 점수 업데이트 및 로그 기록
-        updateUserScore(detectiveId, detectiveScoreChange, caseId,
-                isSolved ? "탐정: 사건 해결 성공" : "탐정: 사건 해결 실패");
+        // 점수 업데이트 및 로그 기록 (배치 1회)
+        ScoreLedgerRepository.Batch scoreBatch = scoreLedgerRepository.batch()
+                .add(detectiveId, caseId, detectiveScoreChange,
+                        isSolved ? "탐정: 사건 해결 성공" : "탐정: 사건 해결 실패");
 
         if (participation.getCriminalId() != null) {
-            updateUserScore(participation.getCriminalId(), criminalScoreChange, caseId,
+            scoreBatch.add(participation.getCriminalId(), caseId, criminalScoreChange,
                     isSolved ? "범인: 사건 해결됨" : "범인: 탐정 추리 실패");
         }
+        updateUserScores(scoreBatch);
 
-        // CaseInfo 상태 업데이트
-        caseInfo.setStatus("결과 확인");
-        caseInfoRepository.save(caseInfo);
+        eventPublisher.publishEvent(CaseStatusEvent.of(participation, CaseStatus.RESOLVED));
+        touchVersions(participation);
 
         // 실제 범인 닉네임 조회
-        String actualCulpritNickname = appUserRepository.findById(caseInfo.getTrueCriminalId())
-                .map(AppUser::getNickname).orElse("알 수 없음");
+        String actualCulpritNickname = userIdentityCache.nicknameOf(caseInfo.getTrueCriminalId(), "알 수 없음");
 
         return Map.of(
                 "isSolved", isSolved,
@@ -676,40 +575,36 @@ public class CaseService {
                 "criminalScoreChange", criminalScoreChange,
                 "culpritGuess", culpritGuessNickname,
                 "actualCulprit", actualCulpritNickname,
-                "newStatus", "결과 확인"
+                "newStatus", CaseStatus.RESOLVED
         );
     }
 
     public CaseResultDto getCaseResult(Long caseId) {
-        // CaseParticipation에서 해당 사건에 대한 참여 정보를 가져옵니다.
-        CaseParticipation participation = participationRepository.findByCaseId(caseId)
-                .orElseThrow(() -> new RuntimeException("사건을 찾을 수 없습니다."));
-
-        // 범인 닉네임을 AppUserRepository에서 조회
-        String culpritNickname = appUserRepository.findById(participation.getCriminalId())
-                .map(AppUser::getNickname)
-                .orElse("미지정");
+        // 참여 정보와 사건 본문(제목/내용/난이도)은 서로 독립적이므로 동시에 조회
+        CompletableFuture<CaseParticipation> participationFuture = readFanOut.fork(() -> participationRepository.findByCaseId(caseId)
+                .orElseThrow(() -> new RuntimeException("사건을 찾을 수 없습니다.")));
+        CompletableFuture<CaseContentCache.CaseContent> contentFuture = readFanOut.fork(() -> caseContentCache.get(caseId));
 
-        // 탐정 닉네임을 AppUserRepository에서 조회
-        String detectiveNickname = appUserRepository.findById(participation.getDetectiveId())
-                .map(AppUser::getNickname)
-                .orElse("미지정");
+        CaseParticipation participation = readFanOut.join(participationFuture, "참여 정보");
+        CaseContentCache.CaseContent caseContent = readFanOut.join(contentFuture, "사건 본문");
 
-        // CaseInfo에서 사건 난이도 조회
-        CaseInfo caseInfo = caseInfoRepository.findById(participation.getCaseId())
-                .orElseThrow(() -> new RuntimeException("사건 정보를 찾을 수 없습니다."));
+        // 범인/탐정 닉네임을 사용자 캐시에서 한 번에 조회
+        Map<Long, UserIdentityCache.UserIdentity> users = userIdentityCache.getAll(
+                Arrays.asList(participation.getCriminalId(), participation.getDetectiveId()));
+        String culpritNickname = nicknameOf(users, participation.getCriminalId(), "미지정");
+        String detectiveNickname = nicknameOf(users, participation.getDetectiveId(), "미지정");
 
         // 결과 정보, 추리 정보 등
         return new CaseResultDto(
                 participation.getPartId(), // activeId
                 caseId, // caseId
-                caseInfo.getTitle(), // caseTitle
-                caseInfo.getContent(), // caseDescription
+                caseContent.title(), // caseTitle
+                caseContent.content(), // caseDescription
                 participation.getDetectiveGuessNickname(), // 탐정의 추리 닉네임
                 culpritNickname, // 범인 닉네임
                 participation.getIsSolved() ? "감사" : "부고", // 결과 (사건 해결 여부)
                 detectiveNickname, // 탐정 닉네임
-                caseInfo.getDifficulty() // 사건 난이도
+                caseContent.difficulty() // 사건 난이도
         );
     }
 
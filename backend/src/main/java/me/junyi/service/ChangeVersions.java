@@ -0,0 +1,105 @@
+package me.junyi.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 조회 응답 ETag용 변경 카운터
+ * 사건 목록 / 사용자별 사건 목록 / 역할별 랭킹마다 카운터를 두고, 쓰기 쪽에서 변경이 커밋된 뒤 1씩 올립니다.
+ * 조회 쪽은 본문을 만들기 전에 카운터로 ETag를 만들고 If-None-Match 와 같으면 DB 조회 없이 304로 응답합니다.
+ * - 태그에는 기동 시각을 넣으므로 재시작 후에는 이전 태그가 맞지 않습니다. (카운터가 0부터 다시 시작)
+ * - 사용자별 카운터는 user_id 해시로 나눈 고정 개수 칸을 함께 쓰므로, 다른 사용자의 변경으로 태그가 바뀌는 경우가 있습니다. (304를 놓칠 뿐 오래된 본문을 내주지는 않음)
+ * - 카운터는 인스턴스 메모리에 있으므로 메모리 랭킹(RankingService)과 마찬가지로 단일 인스턴스 기준입니다.
+ */
+@Component
+public class ChangeVersions {
+
+    private static final int USER_SLOTS = 4096;
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    // 관리자 캐시 무효화 등 모든 응답에 영향을 주는 변경 (사건 본문 / 닉네임)
+    private final AtomicLong shared = new AtomicLong();
+    // 등록 상태 사건 목록
+    private final AtomicLong caseList = new AtomicLong();
+    // user_id 해시 칸 -> 그 사용자가 참여한 사건 목록
+    private final AtomicLongArray userCases = new AtomicLongArray(USER_SLOTS);
+    // 역할 -> 메모리 랭킹, 랭킹 스냅샷 (?asOf= / ?deltaSince= 결과)
+    private final Map<String, AtomicLong> rankings = new ConcurrentHashMap<>();
+    private final AtomicLong snapshots = new AtomicLong();
+
+    /** 사건 목록 ETag (/api/cases/available) */
+    public String caseListTag() {
+        return tag(caseList.get());
+    }
+
+    /** 사용자별 사건 목록 ETag (/api/cases/client/{userId}, /api/cases/detective/result/{userId}) */
+    public String userCasesTag(Long userId) {
+        return tag(userCases.get(slot(userId)));
+    }
+
+    /** 역할별 랭킹 ETag (/api/ranking/*) */
+    public String rankingTag(String role) {
+        return tag(snapshots.get() + "-" + ranking(role).get());
+    }
+
+    /** 사건 변경 - 커밋 후 사건 목록과 관련 사용자들의 사건 목록 버전 증가 (null 은 무시) */
+    public void touchCase(Long... userIds) {
+        afterCommit(() -> {
+            caseList.incrementAndGet();
+            for (Long userId : userIds) {
+                if (userId != null) userCases.incrementAndGet(slot(userId));
+            }
+        });
+    }
+
+    /**
+     * 메모리 랭킹 변경 - 바로 증가
+     * RankingService가 커밋 후 랭킹을 바꾼 직후에 호출합니다. (커밋 후 콜백 안에서는 새 콜백을 등록할 수 없음)
+     */
+    public void touchRanking(String role) {
+        ranking(role).incrementAndGet();
+    }
+
+    /** 랭킹 스냅샷 기록 - 커밋 후 모든 역할의 랭킹 버전 증가 */
+    public void touchRankingSnapshots() {
+        afterCommit(snapshots::incrementAndGet);
+    }
+
+    /** 사건 본문 / 닉네임 캐시 무효화 - 모든 태그 변경 */
+    public void touchAll() {
+        shared.incrementAndGet();
+    }
+
+    private AtomicLong ranking(String role) {
+        return rankings.computeIfAbsent(role, r -> new AtomicLong());
+    }
+
+    private static int slot(Long userId) {
+        return Math.floorMod(Objects.hashCode(userId), USER_SLOTS);
+    }
+
+    private String tag(Object version) {
+        return "\"" + epoch + "-" + shared.get() + "-" + version + "\"";
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package me.junyi.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import me.junyi.repository.IdempotencyKeyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// Idempotency-Key 저장소
+// 키마다 "처리 중" 표시 또는 완료된 응답을 메모리(크기 제한 + TTL)에 보관하고,
+// app.idempotency.persist=true 이면 완료된 응답을 idempotency_key 테이블에도 남겨 다른 인스턴스 / 재시작 이후의 재시도에도 재생합니다.
+// 메모리에 있는 키의 재시도는 DB를 전혀 읽지 않습니다.
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    public static final String CACHE_NAME = "idempotency";
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final Duration ttl;
+    private final boolean persist;
+
+    private final Cache<String, Entry> entries;
+
+    public IdempotencyStore(IdempotencyKeyRepository idempotencyKeyRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.idempotency.max-size:100000}") long maxSize,
+                            @Value("${app.idempotency.ttl-seconds:86400}") long ttlSeconds,
+                            @Value("${app.idempotency.persist:false}") boolean persist) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.persist = persist;
+
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, CACHE_NAME);
+    }
+
+    /**
+     * 키 선점 시도
+     * 처음 보는 키면 "처리 중"으로 표시하고 empty를, 이미 있는 키면 기존 항목(처리 중 또는 완료된 응답)을 반환합니다.
+     */
+    public Optional<Entry> reserve(String key, String requestHash) {
+        Entry existing = entries.asMap().putIfAbsent(key, Entry.inFlight(requestHash));
+        if (existing != null) {
+            return Optional.of(existing);
+        }
+        if (persist) {
+            Optional<StoredResponse> stored = idempotencyKeyRepository.find(key);
+            if (stored.isPresent()) {
+                Entry completed = Entry.completed(stored.get());
+                entries.put(key, completed);
+                return Optional.of(completed);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /** 처리가 끝난 응답 저장 (이후 같은 키의 요청은 이 응답을 재생) */
+    public void complete(String key, StoredResponse response) {
+        entries.put(key, Entry.completed(response));
+        if (persist) {
+            // 요청 처리는 이미 커밋되었으므로 저장 실패로 응답을 바꾸지 않음 (메모리 항목으로는 계속 재생)
+            try {
+                idempotencyKeyRepository.save(key, response, ttl);
+            } catch (RuntimeException e) {
+                log.warn("Idempotency-Key 응답 저장 실패: {}", key, e);
+            }
+        }
+    }
+
+    /** 처리 실패 등으로 응답을 저장하지 않는 경우 선점 해제 (같은 키로 다시 시도 가능) */
+    public void release(String key) {
+        entries.invalidate(key);
+    }
+
+    // 만료된 영구 저장 응답 정리
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        if (!persist) return;
+        int purged = idempotencyKeyRepository.purgeExpired();
+        if (purged > 0) {
+            log.debug("만료된 Idempotency-Key 응답 {}건 삭제", purged);
+        }
+    }
+
+    /** 저장된 응답 (상태 코드 / Content-Type / 본문) */
+    public record StoredResponse(String requestHash, int status, String contentType, byte[] body) {
+    }
+
+    /** 키별 항목 - response가 null이면 아직 처리 중 */
+    public record Entry(String requestHash, StoredResponse response) {
+
+        static Entry inFlight(String requestHash) {
+            return new Entry(requestHash, null);
+        }
+
+        static Entry completed(StoredResponse response) {
+            return new Entry(response.requestHash(), response);
+        }
+
+        public boolean inFlight() {
+            return response == null;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package me.junyi.service;
+
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * 순위(앞에 있는 원소 수)를 O(log n)에 구하는 정렬 트리 (크기를 기록한 treap)
+ * 변경 메서드는 바뀐 경로의 노드만 새로 만들어 새 트리를 돌려주고 기존 트리는 그대로 두므로,
+ * 조회하는 쪽은 잠금 없이 자기가 읽은 시점의 트리를 끝까지 순회할 수 있습니다.
+ * (같은 트리를 여러 스레드가 동시에 변경하면 안 됨 - 변경은 RankingService의 synchronized 안에서만)
+ */
+final class RankTree<T> {
+
+    private final Comparator<? super T> order;
+    private final Node<T> root;
+
+    private RankTree(Comparator<? super T> order, Node<T> root) {
+        this.order = order;
+        this.root = root;
+    }
+
+    static <T> RankTree<T> empty(Comparator<? super T> order) {
+        return new RankTree<>(order, null);
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    /** value를 추가한 트리 (이미 같은 원소가 있으면 그대로) */
+    RankTree<T> with(T value) {
+        if (contains(value)) return this;
+        return new RankTree<>(order, insert(root, value, ThreadLocalRandom.current().nextInt()));
+    }
+
+    /** value를 뺀 트리 (없으면 그대로) */
+    RankTree<T> without(T value) {
+        if (!contains(value)) return this;
+        return new RankTree<>(order, remove(root, value));
+    }
+
+    boolean contains(T value) {
+        Node<T> node = root;
+        while (node != null) {
+            int c = order.compare(value, node.value);
+            if (c == 0) return true;
+            node = c < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    /** probe보다 앞에 있는 원소 수 (probe가 트리에 있으면 그 원소의 0부터 시작하는 위치) */
+    int countBefore(T probe) {
+        int count = 0;
+        Node<T> node = root;
+        while (node != null) {
+            if (order.compare(probe, node.value) <= 0) {
+                node = node.left;
+            } else {
+                count += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return count;
+    }
+
+    /** index 번째 (0부터) 원소 */
+    T get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        Node<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * index 번째 원소부터 순서대로 전달 - visitor가 false를 돌려주면 중단
+     * 시작 위치를 찾는 데 O(log n), 이후 원소마다 평균 O(1) 입니다.
+     */
+    void forEachFrom(int index, Predicate<? super T> visitor) {
+        visit(root, Math.max(0, index), visitor);
+    }
+
+    // 왼쪽 부분 트리에서 start 이전 원소는 건너뛰고 중위 순회 - 계속 순회하면 true
+    private static <T> boolean visit(Node<T> node, int start, Predicate<? super T> visitor) {
+        if (node == null) return true;
+        int leftSize = size(node.left);
+        if (start < leftSize && !visit(node.left, start, visitor)) return false;
+        if (start <= leftSize && !visitor.test(node.value)) return false;
+        return visit(node.right, Math.max(0, start - leftSize - 1), visitor);
+    }
+
+    private Node<T> insert(Node<T> node, T value, int priority) {
+        if (node == null) return new Node<>(value, priority, null, null);
+        if (order.compare(value, node.value) < 0) {
+            Node<T> left = insert(node.left, value, priority);
+            return left.priority > node.priority
+                    ? left.with(left.left, node.with(left.right, node.right))
+                    : node.with(left, node.right);
+        }
+        Node<T> right = insert(node.right, value, priority);
+        return right.priority > node.priority
+                ? right.with(node.with(node.left, right.left), right.right)
+                : node.with(node.left, right);
+    }
+
+    private Node<T> remove(Node<T> node, T value) {
+        int c = order.compare(value, node.value);
+        if (c == 0) return merge(node.left, node.right);
+        return c < 0
+                ? node.with(remove(node.left, value), node.right)
+                : node.with(node.left, remove(node.right, value));
+    }
+
+    // left의 모든 원소 < right의 모든 원소
+    private static <T> Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) return right;
+        if (right == null) return left;
+        return left.priority > right.priority
+                ? left.with(left.left, merge(left.right, right))
+                : right.with(merge(left, right.left), right.right);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node<T> {
+        final T value;
+        final int priority;
+        final Node<T> left;
+        final Node<T> right;
+        final int size;
+
+        Node(T value, int priority, Node<T> left, Node<T> right) {
+            this.value = value;
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+        }
+
+        Node<T> with(Node<T> newLeft, Node<T> newRight) {
+            return new Node<>(value, priority, newLeft, newRight);
+        }
+    }
+}
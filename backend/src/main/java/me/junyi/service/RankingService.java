@@ -1,4 +1,559 @@
 package me.junyi.service;
 
+import jakarta.annotation.PostConstruct;
+import me.junyi.dto.CursorPage;
+import me.junyi.dto.RankingDto;
+import me.junyi.repository.UserRoleStatsRepository;
+import me.junyi.repository.UserRoleStatsRepository.Delta;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+// 역할별 랭킹을 메모리에 유지하는 서비스
+// 최초 조회 시 ranking_*.sql로 한 번 적재하고, 이후에는 점수/참여 변경을 커밋 후 제자리에서 반영합니다.
+// 랭킹 조회는 DB를 읽지 않고 정렬된 구조를 순회만 합니다.
+// 역할별 랭킹은 순위를 O(log n)에 구하는 RankTree이므로 "내 주변 순위" / 상위 K명도 전체를 세지 않고 바로 찾습니다.
+// 참여/해결 건수는 user_role_stats 테이블에도 남깁니다. 한 트랜잭션의 증감은 모아 두었다가
+// 커밋 직전에 INSERT 한 번으로 반영하므로 참여자가 여럿인 요청도 문장이 1개만 늘어납니다.
+// DB 적재(전체 재적재 / 새 사용자 적재)와 커밋 후 반영이 겹쳐도 변경이 두 번 들어가거나 빠지지 않도록
+// 커밋 직전 ~ 메모리 반영까지는 읽기 잠금을, 적재 스냅샷을 정하는 순간에는 쓰기 잠금을 잡고,
+// 스냅샷 이후에 커밋된 변경은 적재가 끝난 뒤 적재 결과에 다시 반영합니다.
+@Service
 public class RankingService {
+
+    public static final String DETECTIVE = "탐정";
+    public static final String CULPRIT = "범인";
+    public static final String CLIENT = "의뢰인";
+    public static final String POLICE = "경찰";
+
+    public static final List<String> ROLES = List.of(DETECTIVE, CULPRIT, CLIENT, POLICE);
+
+    // 점수 내림차순, 동점이면 user_id 오름차순
+    private static final Comparator<Entry> RANK_ORDER = Comparator
+            .comparingLong(Entry::score).reversed()
+            .thenComparingLong(Entry::userId);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRoleStatsRepository userRoleStatsRepository;
+    private final ChangeVersions changeVersions; // 랭킹 응답 ETag (랭킹을 바꿀 때마다 역할 버전 증가)
+
+    // 트랜잭션별 랭킹 변경을 묶어 두는 리소스 키
+    private final Object pendingChangesKey = new Object();
+
+    // 커밋 직전 ~ 메모리 반영(읽기 잠금) / 적재 스냅샷 확정(쓰기 잠금)
+    private final ReentrantReadWriteLock commitLock = new ReentrantReadWriteLock();
+    // 적재는 한 번에 하나씩 (전체 재적재 / 새 사용자 적재)
+    private final Object loadLock = new Object();
+    // 적재용 REPEATABLE READ 읽기 전용 트랜잭션 (여러 문장이 같은 스냅샷을 읽음)
+    private final TransactionTemplate snapshotTransaction;
+
+    @Value("classpath:sql/ranking_detectives.sql")
+    private Resource rankingDetectivesSqlFile;
+
+    @Value("classpath:sql/ranking_culprits.sql")
+    private Resource rankingCulpritsSqlFile;
+
+    @Value("classpath:sql/ranking_clients.sql")
+    private Resource rankingClientsSqlFile;
+
+    @Value("classpath:sql/ranking_police.sql")
+    private Resource rankingPoliceSqlFile;
+
+    @Value("classpath:sql/ranking_users.sql")
+    private Resource rankingUsersSqlFile;
+    private String rankingUsersSql;
+
+    // 역할 -> 적재 SQL
+    private final Map<String, String> rankingSqlByRole = new LinkedHashMap<>();
+
+    // 역할 -> 랭킹 (순위에 포함되는 항목만), user_id -> 현재 항목 (순위 제외 항목 포함)
+    // 랭킹은 변경할 때마다 새 Board로 교체하므로 조회 중인 요청은 읽기 시작한 시점의 랭킹을 끝까지 순회함
+    private volatile Map<String, Board> boards = new ConcurrentHashMap<>();
+    private volatile Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    private volatile boolean loaded = false;
+
+    // 적재 이후 새로 생긴 사용자 - 다음 조회 때 해당 사용자만 DB에서 읽음
+    private final Set<Long> missingUsers = ConcurrentHashMap.newKeySet();
+    // 적재 중(스냅샷 이후)에 커밋된 변경 - 적재가 끝나면 적재 결과에 다시 반영 (this 잠금)
+    private List<Change> buffered = null;
+
+    public RankingService(JdbcTemplate jdbcTemplate, UserRoleStatsRepository userRoleStatsRepository,
+                          ChangeVersions changeVersions, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRoleStatsRepository = userRoleStatsRepository;
+        this.changeVersions = changeVersions;
+        // 호출 측 트랜잭션에 합류하면 스냅샷 시점을 정할 수 없으므로 항상 새 트랜잭션
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTransaction.setReadOnly(true);
+    }
+
+    @PostConstruct
+    public void loadSqlFiles() {
+        try {
+            rankingSqlByRole.put(DETECTIVE, readSql(rankingDetectivesSqlFile));
+            rankingSqlByRole.put(CULPRIT, readSql(rankingCulpritsSqlFile));
+            rankingSqlByRole.put(CLIENT, readSql(rankingClientsSqlFile));
+            rankingSqlByRole.put(POLICE, readSql(rankingPoliceSqlFile));
+            rankingUsersSql = readSql(rankingUsersSqlFile);
+        } catch (IOException e) {
+            throw new RuntimeException("랭킹 SQL 파일을 로드하는 데 실패했습니다.", e);
+        }
+    }
+
+    private static String readSql(Resource resource) throws IOException {
+        return StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8).trim();
+    }
+
+    /**
+     * 역할별 랭킹 조회 (순위 포함) - (score, user_id) 기준 keyset 페이지
+     * 탐정은 전원, 나머지 역할은 사건 참여 이력이 1건 이상인 사용자만 포함합니다.
+     * 커서는 "점수:user_id:순위" 형식이며, 정렬 구조에서 커서 다음 위치부터 바로 순회하므로
+     * 몇 번째 페이지든 비용이 같습니다.
+     */
+    public CursorPage<RankingDto> getRanking(String role, String after, Integer size) {
+        ensureLoaded();
+
+        int limit = CursorPage.limitOf(after, size);
+        Board board = board(role);
+
+        int from = 0;
+        if (after != null && !after.isBlank()) {
+            // 커서의 순위 값은 이전 페이지 시점의 값이므로 쓰지 않고, (점수, user_id) 위치를 트리에서 다시 구함
+            String[] cursor = after.split(":");
+            if (cursor.length != 3) {
+                throw new IllegalArgumentException("잘못된 랭킹 커서입니다: " + after);
+            }
+            try {
+                Entry probe = Entry.probe(Long.parseLong(cursor[0]), Long.parseLong(cursor[1]));
+                from = board.entries().countBefore(probe) + (board.entries().contains(probe) ? 1 : 0);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 랭킹 커서입니다: " + after);
+            }
+        }
+
+        List<RankingDto> list = rows(board, from, limit + 1); // 다음 페이지 존재 여부 확인용 1건까지
+        return CursorPage.of(list, limit,
+                row -> row.getScore() + ":" + row.getUserId() + ":" + row.getRank());
+    }
+
+    /** 상위 k명 (k는 1 ~ CursorPage.MAX_SIZE) */
+    public List<RankingDto> getTop(String role, int k) {
+        ensureLoaded();
+        return rows(board(role), 0, CursorPage.clampSize(k));
+    }
+
+    /**
+     * 사용자 주변 순위 - 앞뒤로 window명씩 (사용자 포함 최대 2 * window + 1명)
+     * 해당 역할 랭킹에 없는 사용자면 NoSuchElementException
+     */
+    public List<RankingDto> getAround(String role, Long userId, int window) {
+        ensureLoaded();
+
+        int half = Math.max(0, Math.min(window, CursorPage.MAX_SIZE / 2));
+        Board board = board(role);
+        Entry entry = entries.get(userId);
+        if (entry == null || !board.entries().contains(entry)) {
+            throw new NoSuchElementException("랭킹에 없는 사용자입니다: " + userId);
+        }
+        int index = board.entries().countBefore(entry);
+        int from = Math.max(0, index - half);
+        return rows(board, from, index - from + half + 1);
+    }
+
+    /**
+     * 역할별 전체 랭킹을 순위 순서대로 하나씩 전달 (스트리밍 응답용)
+     * 목록을 만들지 않고 정렬 구조를 순회하면서 바로 넘기므로 전체 인원 수와 무관하게 메모리 사용이 일정합니다.
+     */
+    public void forEachRanked(String role, Consumer<RankingDto> consumer) {
+        ensureLoaded();
+
+        forEachRow(board(role), 0, row -> {
+            consumer.accept(row);
+            return true;
+        });
+    }
+
+    // from 번째(0부터)부터 최대 limit명
+    private static List<RankingDto> rows(Board board, int from, int limit) {
+        List<RankingDto> list = new ArrayList<>();
+        forEachRow(board, from, row -> {
+            list.add(row);
+            return list.size() < limit;
+        });
+        return list;
+    }
+
+    /**
+     * from 번째(0부터)부터 순위를 붙여 전달 - visitor가 false를 돌려주면 중단
+     * rank는 동점이어도 겹치지 않는 위치, competitionRank는 동점이면 같은 순위(1, 1, 3),
+     * denseRank는 동점이면 같은 순위이고 다음 순위를 건너뛰지 않음(1, 1, 2) 입니다.
+     * 첫 행의 순위만 트리에서 O(log n)으로 구하고, 이후 행은 앞 행과 점수를 비교해 이어 붙입니다.
+     */
+    private static void forEachRow(Board board, int from, Predicate<RankingDto> visitor) {
+        board.entries().forEachFrom(from, new Predicate<>() {
+            private int rank = from;
+            private long previousScore;
+            private int competitionRank;
+            private int denseRank;
+
+            @Override
+            public boolean test(Entry entry) {
+                rank++;
+                if (rank == from + 1) {
+                    competitionRank = board.competitionRank(entry.score());
+                    denseRank = board.denseRank(entry.score());
+                } else if (entry.score() != previousScore) {
+                    competitionRank = rank;
+                    denseRank++;
+                }
+                previousScore = entry.score();
+                return visitor.test(entry.toDto(rank, competitionRank, denseRank));
+            }
+        });
+    }
+
+    /** 점수 변경 반영 (트랜잭션 커밋 후 적용) */
+    public void applyScoreChange(Long userId, int scoreChange) {
+        if (userId == null) return;
+        Change change = new Change(userId, e -> e.withScore(e.score() + scoreChange));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            withCommitLock(() -> update(change)); // 트랜잭션 밖 - 이미 DB에 반영된 변경
+            return;
+        }
+        pendingChanges().scoreChanges.add(change);
+    }
+
+    /** 사건 참여 1건 추가 반영 - role은 참여 위치 (의뢰인/범인/경찰/탐정) */
+    public void applyCaseJoined(Long userId, String role) {
+        applyCaseStats(userId, role, 1, 0);
+    }
+
+    /** 사건 참여 1건 제외 반영 - 담당자가 다른 사용자로 바뀐 경우 */
+    public void applyCaseLeft(Long userId, String role) {
+        applyCaseStats(userId, role, -1, 0);
+    }
+
+    /** 사건 결과 반영 - 해결된 경우 해결 건수 +1 */
+    public void applyCaseResolved(Long userId, String role, boolean solved) {
+        if (!solved) return;
+        applyCaseStats(userId, role, 0, 1);
+    }
+
+    // 트랜잭션 안이면 증감을 모아 두고 커밋 직전에 user_role_stats에 한 번에 반영, 커밋 후 메모리 랭킹 반영
+    private void applyCaseStats(Long userId, String role, long totalDelta, long solvedDelta) {
+        if (userId == null) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Delta delta = new Delta(userId, role, totalDelta, solvedDelta);
+            withCommitLock(() -> {
+                userRoleStatsRepository.apply(List.of(delta));
+                update(statsChange(delta));
+            });
+            return;
+        }
+        pendingChanges().add(userId, role, totalDelta, solvedDelta);
+    }
+
+    private PendingChanges pendingChanges() {
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(pendingChangesKey);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(pendingChangesKey, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    // 참여 위치와 사용자의 역할이 같은 경우만 랭킹 건수에 포함 (ranking_*.sql과 같은 기준)
+    private static Change statsChange(Delta delta) {
+        return new Change(delta.userId(), e -> !e.role().equals(delta.role()) ? e : e.withCases(
+                Math.max(0, e.totalCases() + delta.totalDelta()),
+                Math.max(0, e.solvedCases() + delta.solvedDelta())));
+    }
+
+    private void withCommitLock(Runnable action) {
+        commitLock.readLock().lock();
+        try {
+            action.run();
+        } finally {
+            commitLock.readLock().unlock();
+        }
+    }
+
+    /** DB에서 전체 랭킹을 다시 적재 */
+    public void reload() {
+        synchronized (loadLock) {
+            // 적재 전에는 이전 버전으로 내준 랭킹이 없으므로 이미 적재된 랭킹을 바꿀 때만 버전 증가
+            boolean replacing = loaded;
+            Map<String, Board> newBoards = new ConcurrentHashMap<>();
+            Map<Long, Entry> newEntries = new ConcurrentHashMap<>();
+
+            loadFromSnapshot(() -> rankingSqlByRole.forEach((role, sql) -> {
+                Board board = Board.EMPTY;
+                for (Entry entry : jdbcTemplate.query(sql, entryMapper(role))) {
+                    newEntries.put(entry.userId(), entry);
+                    if (entry.ranked()) board = board.with(entry);
+                }
+                newBoards.put(role, board);
+            }), changes -> {
+                this.boards = newBoards;
+                this.entries = newEntries;
+                loaded = true;
+                missingUsers.clear();
+                changes.forEach(this::applyLoaded);
+            });
+
+            if (replacing) newBoards.keySet().forEach(changeVersions::touchRanking);
+        }
+    }
+
+    // 적재 이후 새로 생긴 사용자만 DB에서 읽어 랭킹에 추가
+    private void loadMissingUsers() {
+        synchronized (loadLock) {
+            if (!loaded || missingUsers.isEmpty()) return;
+            Set<Long> userIds = new HashSet<>(missingUsers);
+            List<Entry> loadedEntries = new ArrayList<>();
+
+            loadFromSnapshot(() -> loadedEntries.addAll(jdbcTemplate.query(connection -> {
+                var ps = connection.prepareStatement(rankingUsersSql);
+                ps.setArray(1, connection.createArrayOf("bigint", userIds.toArray(Long[]::new)));
+                return ps;
+            }, (rs, rowNum) -> entryMapper(rs.getString("role")).mapRow(rs, rowNum))), changes -> {
+                missingUsers.removeAll(userIds);
+                for (Entry entry : loadedEntries) {
+                    entries.put(entry.userId(), entry);
+                    if (entry.ranked()) boards.put(entry.role(), board(entry.role()).with(entry));
+                    changeVersions.touchRanking(entry.role());
+                }
+                // 다른 사용자의 변경은 이미 현재 랭킹에 반영됨
+                changes.stream().filter(c -> userIds.contains(c.userId())).forEach(this::applyLoaded);
+            });
+        }
+    }
+
+    /**
+     * 스냅샷을 정해 queries를 실행한 뒤 install로 결과를 반영
+     * 쓰기 잠금으로 커밋 중인 변경이 메모리 반영을 마칠 때까지 기다린 뒤 스냅샷을 정하므로 그 전 커밋은 모두 스냅샷에 있고,
+     * 스냅샷 이후 커밋된 변경은 buffered에 모였다가 install에 전달됩니다. (install은 this 잠금 안에서 실행)
+     * 커넥션을 먼저 얻은 뒤 잠금을 잡아, 커밋을 기다리는 요청들이 커넥션을 모두 쥐고 있어도 적재가 멈추지 않게 합니다.
+     */
+    private void loadFromSnapshot(Runnable queries, Consumer<List<Change>> install) {
+        try {
+            snapshotTransaction.executeWithoutResult(status -> {
+                commitLock.writeLock().lock();
+                try {
+                    jdbcTemplate.queryForObject("SELECT 1", Integer.class); // REPEATABLE READ 스냅샷은 첫 문장에서 정해짐
+                    synchronized (this) {
+                        buffered = new ArrayList<>();
+                    }
+                } finally {
+                    commitLock.writeLock().unlock();
+                }
+                queries.run();
+            });
+            synchronized (this) {
+                install.accept(buffered);
+            }
+        } finally {
+            synchronized (this) {
+                buffered = null;
+            }
+        }
+    }
+
+    private static RowMapper<Entry> entryMapper(String role) {
+        return (rs, rowNum) -> new Entry(
+                rs.getLong("userId"),
+                rs.getString("nickname"),
+                role,
+                rs.getLong("score"),
+                rs.getLong("totalCases"),
+                rs.getLong("solvedCases")
+        );
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (loadLock) {
+                if (!loaded) reload();
+            }
+        } else if (!missingUsers.isEmpty()) {
+            loadMissingUsers();
+        }
+    }
+
+    private Board board(String role) {
+        return boards.getOrDefault(role, Board.EMPTY);
+    }
+
+    // 커밋된 변경 반영 - 적재 중이면 적재 결과에도 다시 반영하도록 모아 둠
+    private synchronized void update(Change change) {
+        if (buffered != null) buffered.add(change);
+        if (!loaded) return; // 적재 전 - 적재 스냅샷에 포함되거나 buffered로 다시 반영됨
+        applyLoaded(change);
+    }
+
+    // 항목을 교체할 때 정렬 키(점수)가 바뀌므로 제거 후 다시 삽입 (참여 이력이 생기거나 없어지면 랭킹에 넣거나 뺌)
+    // this 잠금 안에서만 호출
+    private void applyLoaded(Change change) {
+        Entry current = entries.get(change.userId());
+        if (current == null) {
+            // 적재 이후 새로 생긴 사용자 - 다음 조회 때 그 사용자만 적재 (그 전에 304로 응답하지 않도록 버전도 증가)
+            missingUsers.add(change.userId());
+            ROLES.forEach(changeVersions::touchRanking);
+            return;
+        }
+
+        Entry updated = change.change().apply(current);
+        Board board = board(current.role());
+        if (current.ranked()) board = board.without(current);
+        if (updated.ranked()) board = board.with(updated);
+        boards.put(current.role(), board);
+        entries.put(change.userId(), updated);
+        changeVersions.touchRanking(current.role());
+    }
+
+    /** 사용자 한 명의 항목 변경 */
+    private record Change(long userId, UnaryOperator<Entry> change) {
+    }
+
+    // 한 트랜잭션의 랭킹 변경
+    // 통계 증감은 (user_id, role) 별로 합쳐 커밋 직전에 user_role_stats에 한 번에 반영하고,
+    // 커밋 직전부터 메모리 반영까지 읽기 잠금을 잡아 적재 스냅샷이 그 사이에 정해지지 않게 함
+    private class PendingChanges implements TransactionSynchronization {
+
+        private final Map<String, Delta> deltas = new LinkedHashMap<>();
+        private final List<Change> scoreChanges = new ArrayList<>();
+        private boolean locked = false;
+
+        void add(Long userId, String role, long totalDelta, long solvedDelta) {
+            deltas.merge(userId + ":" + role, new Delta(userId, role, totalDelta, solvedDelta),
+                    (a, b) -> new Delta(a.userId(), a.role(),
+                            a.totalDelta() + b.totalDelta(), a.solvedDelta() + b.solvedDelta()));
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            userRoleStatsRepository.apply(deltas.values());
+            commitLock.readLock().lock();
+            locked = true;
+        }
+
+        @Override
+        public void afterCommit() {
+            scoreChanges.forEach(RankingService.this::update);
+            deltas.values().forEach(delta -> update(statsChange(delta)));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(pendingChangesKey);
+            if (locked) {
+                locked = false;
+                commitLock.readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 역할 하나의 랭킹 (변경하면 새 Board를 돌려줌)
+     * entries: 순위 순서의 항목, scores: 항목들의 서로 다른 점수 (내림차순) - dense 순위 계산용
+     */
+    private record Board(RankTree<Entry> entries, RankTree<Long> scores) {
+
+        static final Board EMPTY = new Board(RankTree.empty(RANK_ORDER), RankTree.empty(Comparator.reverseOrder()));
+
+        Board with(Entry entry) {
+            RankTree<Long> newScores = countWithScore(entry.score()) == 0 ? scores.with(entry.score()) : scores;
+            return new Board(entries.with(entry), newScores);
+        }
+
+        Board without(Entry entry) {
+            if (!entries.contains(entry)) return this;
+            RankTree<Long> newScores = countWithScore(entry.score()) == 1 ? scores.without(entry.score()) : scores;
+            return new Board(entries.without(entry), newScores);
+        }
+
+        // 점수가 더 높은 항목 수 + 1 (동점은 같은 순위, 다음 순위는 건너뜀)
+        int competitionRank(long score) {
+            return entries.countBefore(Entry.probe(score, Long.MIN_VALUE)) + 1;
+        }
+
+        // 더 높은 서로 다른 점수의 수 + 1 (동점은 같은 순위, 다음 순위는 이어짐)
+        int denseRank(long score) {
+            return scores.countBefore(score) + 1;
+        }
+
+        private int countWithScore(long score) {
+            return entries.countBefore(Entry.probe(score, Long.MAX_VALUE))
+                    - entries.countBefore(Entry.probe(score, Long.MIN_VALUE));
+        }
+    }
+
+    private record Entry(long userId, String nickname, String role,
+                         long score, long totalCases, long solvedCases) {
+
+        Entry withScore(long newScore) {
+            return new Entry(userId, nickname, role, newScore, totalCases, solvedCases);
+        }
+
+        Entry withCases(long newTotal, long newSolved) {
+            return new Entry(userId, nickname, role, score, newTotal, newSolved);
+        }
+
+        // 정렬 위치만 나타내는 검색용 항목 (같은 점수에서 user_id가 MIN이면 맨 앞, MAX면 맨 뒤)
+        static Entry probe(long score, long userId) {
+            return new Entry(userId, null, null, score, 0, 0);
+        }
+
+        // 랭킹에 포함되는지 - 탐정은 전원, 나머지 역할은 사건 참여 이력이 1건 이상인 사용자만
+        boolean ranked() {
+            return DETECTIVE.equals(role) || totalCases > 0;
+        }
+
+        double successRate() {
+            return totalCases == 0 ? 0 : solvedCases * 100.0 / totalCases;
+        }
+
+        RankingDto toDto(int rank, int competitionRank, int denseRank) {
+            return RankingDto.builder()
+                    .userId(userId)
+                    .nickname(nickname)
+                    .role(role)
+                    .score(score)
+                    .totalCases(totalCases)
+                    .successRate(successRate())
+                    .rank(rank)
+                    .competitionRank(competitionRank)
+                    .denseRank(denseRank)
+                    .build();
+        }
+    }
 }
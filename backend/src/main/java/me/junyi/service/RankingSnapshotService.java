@@ -0,0 +1,159 @@
+package me.junyi.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.junyi.dto.CursorPage;
+import me.junyi.dto.RankingDto;
+import me.junyi.repository.RankingSnapshotRepository;
+import me.junyi.repository.RankingSnapshotRepository.Snapshot;
+import me.junyi.repository.RankingSnapshotRepository.SnapshotRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 랭킹 스냅샷 (시즌 / 순위 변동)
+// app.ranking.snapshot.cron 마다 메모리 랭킹을 역할별로 (순위, user_id, 점수) 만 기록하고,
+// ?asOf= 는 그 시점의 마지막 스냅샷을, ?deltaSince= 는 스냅샷 대비 순위/점수 변동을 돌려줍니다.
+// 어느 쪽도 score_log 를 다시 집계하지 않습니다.
+@Slf4j
+@Service
+public class RankingSnapshotService {
+
+    private final RankingSnapshotRepository rankingSnapshotRepository;
+    private final RankingService rankingService;
+    private final UserIdentityCache userIdentityCache;
+    private final ChangeVersions changeVersions;
+    private final int batchSize;
+    private final int retentionDays;
+
+    public RankingSnapshotService(RankingSnapshotRepository rankingSnapshotRepository,
+                                  RankingService rankingService,
+                                  UserIdentityCache userIdentityCache,
+                                  ChangeVersions changeVersions,
+                                  @Value("${app.ranking.snapshot.batch-size:5000}") int batchSize,
+                                  @Value("${app.ranking.snapshot.retention-days:400}") int retentionDays) {
+        this.rankingSnapshotRepository = rankingSnapshotRepository;
+        this.rankingService = rankingService;
+        this.userIdentityCache = userIdentityCache;
+        this.changeVersions = changeVersions;
+        this.batchSize = Math.max(1, batchSize);
+        this.retentionDays = retentionDays;
+    }
+
+    /** 현재 메모리 랭킹을 스냅샷으로 기록하고 보관 기간이 지난 스냅샷 삭제 */
+    @Scheduled(cron = "${app.ranking.snapshot.cron:0 0 0 * * MON}")
+    @Transactional
+    public Snapshot takeSnapshot() {
+        Snapshot snapshot = rankingSnapshotRepository.create(LocalDateTime.now());
+
+        AtomicInteger total = new AtomicInteger();
+        for (String role : RankingService.ROLES) {
+            List<SnapshotRow> chunk = new ArrayList<>(batchSize);
+            rankingService.forEachRanked(role, row -> {
+                chunk.add(SnapshotRow.of(row));
+                total.incrementAndGet();
+                if (chunk.size() >= batchSize) {
+                    rankingSnapshotRepository.insertRows(snapshot.snapshotId(), role, chunk);
+                    chunk.clear();
+                }
+            });
+            rankingSnapshotRepository.insertRows(snapshot.snapshotId(), role, chunk);
+        }
+
+        int purged = rankingSnapshotRepository.purgeOlderThan(snapshot.takenAt().minusDays(retentionDays));
+        changeVersions.touchRankingSnapshots(); // ?asOf= / ?deltaSince= 결과가 바뀔 수 있음
+        log.info("랭킹 스냅샷 {} 기록 ({}행, 오래된 스냅샷 {}건 삭제)", snapshot.snapshotId(), total.get(), purged);
+        return snapshot;
+    }
+
+    /** asOf 시점 랭킹 - 순위 기준 keyset 페이지 (커서는 현재 랭킹과 같은 "점수:user_id:순위" 형식) */
+    public CursorPage<RankingDto> getRanking(String role, LocalDateTime asOf, String after, Integer size) {
+        Snapshot snapshot = require(asOf);
+        int limit = CursorPage.limitOf(after, size);
+
+        int afterRank = 0;
+        if (after != null && !after.isBlank()) {
+            String[] cursor = after.split(":");
+            if (cursor.length != 3) {
+                throw new IllegalArgumentException("잘못된 랭킹 커서입니다: " + after);
+            }
+            try {
+                afterRank = Integer.parseInt(cursor[2]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 랭킹 커서입니다: " + after);
+            }
+        }
+
+        List<RankingDto> rows = toDtos(role, rankingSnapshotRepository.findPage(snapshot.snapshotId(), role, afterRank, limit + 1));
+        return CursorPage.of(rows, limit, row -> row.getScore() + ":" + row.getUserId() + ":" + row.getRank());
+    }
+
+    /** asOf 시점 상위 k명 */
+    public List<RankingDto> getTop(String role, LocalDateTime asOf, int k) {
+        Snapshot snapshot = require(asOf);
+        return toDtos(role, rankingSnapshotRepository.findPage(snapshot.snapshotId(), role, 0, CursorPage.clampSize(k)));
+    }
+
+    /** asOf 시점 사용자 주변 순위 - 앞뒤로 window명씩 */
+    public List<RankingDto> getAround(String role, LocalDateTime asOf, Long userId, int window) {
+        Snapshot snapshot = require(asOf);
+        int half = Math.max(0, Math.min(window, CursorPage.MAX_SIZE / 2));
+
+        SnapshotRow me = rankingSnapshotRepository.findByUsers(snapshot.snapshotId(), role, List.of(userId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new NoSuchElementException("랭킹 스냅샷에 없는 사용자입니다: " + userId));
+        int afterRank = Math.max(0, me.rank() - half - 1);
+        return toDtos(role, rankingSnapshotRepository.findPage(snapshot.snapshotId(), role, afterRank,
+                me.rank() + half - afterRank));
+    }
+
+    /**
+     * since 시점 스냅샷 대비 순위/점수 변동 채우기 (행마다 스냅샷 조회 없이 쿼리 1회)
+     * 스냅샷에 없던 사용자는 변동 값이 비어 있습니다.
+     */
+    public void annotateDelta(String role, LocalDateTime since, List<RankingDto> rows) {
+        Snapshot snapshot = require(since);
+        Map<Long, SnapshotRow> previous = rankingSnapshotRepository
+                .findByUsers(snapshot.snapshotId(), role, rows.stream().map(RankingDto::getUserId).toList())
+                .stream()
+                .collect(Collectors.toMap(SnapshotRow::userId, Function.identity()));
+
+        for (RankingDto row : rows) {
+            SnapshotRow before = previous.get(row.getUserId());
+            if (before == null) continue;
+            row.setRankChange(before.competitionRank() - row.getCompetitionRank());
+            row.setScoreChange(row.getScore() - before.score());
+        }
+    }
+
+    private Snapshot require(LocalDateTime time) {
+        return rankingSnapshotRepository.findAtOrBefore(time)
+                .orElseThrow(() -> new NoSuchElementException("해당 시점 이전의 랭킹 스냅샷이 없습니다: " + time));
+    }
+
+    // 스냅샷에는 닉네임이 없으므로 캐시에서 한 번에 채움 (사건 수 / 성공률은 기록하지 않음)
+    private List<RankingDto> toDtos(String role, List<SnapshotRow> rows) {
+        Map<Long, UserIdentityCache.UserIdentity> identities =
+                userIdentityCache.getAll(rows.stream().map(SnapshotRow::userId).toList());
+        return rows.stream()
+                .map(row -> RankingDto.builder()
+                        .userId(row.userId())
+                        .nickname(identities.containsKey(row.userId()) ? identities.get(row.userId()).nickname() : null)
+                        .role(role)
+                        .score(row.score())
+                        .rank(row.rank())
+                        .competitionRank(row.competitionRank())
+                        .denseRank(row.denseRank())
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,83 @@
+package me.junyi.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.junyi.config.AsyncConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// 서로 독립적인 조회를 동시에 실행하고 결과를 모으는 도우미
+// 여러 조회로 응답을 만드는 엔드포인트에서 전체 지연이 조회 시간의 합이 아니라 가장 느린 조회 시간이 되도록 합니다.
+// 각 조회에는 제한 시간(app.fan-out.timeout-ms)이 있고, 필수 조회는 실패 시 예외를, 선택 조회는 기본값을 돌려줍니다.
+// 기다리는 쪽이 제한 시간에 포기해도 실행 중인 SQL은 멈추지 않으므로, 조회를 같은 제한 시간의 읽기 전용 트랜잭션에서 실행해
+// 각 문장에 statement timeout(초 단위 올림)을 걸어 DB 쪽 작업과 커넥션도 함께 끝나게 합니다.
+@Slf4j
+@Component
+public class ReadFanOut {
+
+    private final AsyncTaskExecutor executor;
+    private final TransactionTemplate timedRead;
+    private final long timeoutMillis;
+
+    public ReadFanOut(@Qualifier(AsyncConfig.READ_FAN_OUT_EXECUTOR) AsyncTaskExecutor executor,
+                      PlatformTransactionManager transactionManager,
+                      @Value("${app.fan-out.timeout-ms:2000}") long timeoutMillis) {
+        this.executor = executor;
+        this.timeoutMillis = timeoutMillis;
+        this.timedRead = new TransactionTemplate(transactionManager);
+        this.timedRead.setReadOnly(true);
+        this.timedRead.setTimeout((int) Math.max(1, (timeoutMillis + 999) / 1000));
+    }
+
+    /** 조회 시작 - 실행기가 포화 상태면 호출한 스레드에서 바로 실행 (호출 측 트랜잭션이 있으면 그 안에서 실행) */
+    public <T> CompletableFuture<T> fork(Supplier<T> query) {
+        Supplier<T> timed = () -> timedRead.execute(status -> query.get());
+        try {
+            return CompletableFuture.supplyAsync(timed, executor).orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            try {
+                return CompletableFuture.completedFuture(timed.get());
+            } catch (RuntimeException failure) {
+                return CompletableFuture.failedFuture(failure);
+            }
+        }
+    }
+
+    /** 필수 조회 결과 - 실패하면 원래 예외를, 제한 시간을 넘으면 IllegalStateException을 던짐 */
+    public <T> T join(CompletableFuture<T> future, String part) {
+        try {
+            return future.get();
+        } catch (ExecutionException | CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TimeoutException) {
+                throw new IllegalStateException(part + " 조회 시간이 초과되었습니다. (" + timeoutMillis + "ms)", cause);
+            }
+            if (cause instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new IllegalStateException(part + " 조회에 실패했습니다.", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(part + " 조회가 중단되었습니다.", e);
+        }
+    }
+
+    /** 선택 조회 결과 - 실패하거나 제한 시간을 넘으면 경고 로그 후 기본값 (부분 응답) */
+    public <T> T joinOrDefault(CompletableFuture<T> future, String part, T fallback) {
+        try {
+            return join(future, part);
+        } catch (RuntimeException e) {
+            log.warn("{} 조회 실패 - 기본값으로 응답합니다: {}", part, e.getMessage());
+            return fallback;
+        }
+    }
+}
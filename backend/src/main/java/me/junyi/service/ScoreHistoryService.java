@@ -0,0 +1,87 @@
+package me.junyi.service;
+
+import me.junyi.dto.CursorPage;
+import me.junyi.dto.ScoreLogDailyDto;
+import me.junyi.dto.ScoreLogDto;
+import me.junyi.repository.ScoreLogHistoryRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+// 사용자 점수 기록 조회
+// 보관 경계(app.score-log.retention-months, ScoreLogArchiver.retentionCutoff) 이후의 원본 기록은 getRecent()의 keyset 페이지로,
+// 그보다 오래되어 일 요약으로 접힌 기록은 getDaily()로 조회하므로 두 조회 사이에 빠지는 기간이 없습니다.
+// (경계가 지난 파티션은 다음 정리 작업(app.score-log.archive-cron)이 일 요약으로 접을 때까지 잠시 어느 쪽에도 보이지 않을 수 있음)
+@Service
+public class ScoreHistoryService {
+
+    // 첫 페이지 커서 (모든 기록보다 뒤)
+    private static final LocalDateTime LATEST_TIME = LocalDateTime.of(9999, 12, 31, 0, 0);
+    private static final LocalDate LATEST_DATE = LocalDate.of(9999, 12, 31);
+
+    private final ScoreLogHistoryRepository scoreLogHistoryRepository;
+    private final ScoreLogArchiver scoreLogArchiver;
+
+    public ScoreHistoryService(ScoreLogHistoryRepository scoreLogHistoryRepository, ScoreLogArchiver scoreLogArchiver) {
+        this.scoreLogHistoryRepository = scoreLogHistoryRepository;
+        this.scoreLogArchiver = scoreLogArchiver;
+    }
+
+    /**
+     * 최근 점수 기록 (최신 순) - (log_time, log_id) 기준 keyset 페이지
+     * 보관 경계 이후의 원본 기록 전체를 페이지로 넘겨 볼 수 있고, 경계 이전 월 파티션은 읽지 않습니다.
+     * 커서는 "log_time(epoch 마이크로초):log_id" 형식입니다.
+     */
+    public CursorPage<ScoreLogDto> getRecent(Long userId, String after, int size) {
+        int limit = CursorPage.clampSize(size);
+        LocalDateTime since = scoreLogArchiver.retentionCutoff().atStartOfDay();
+
+        LocalDateTime beforeTime = LATEST_TIME;
+        long beforeId = Long.MAX_VALUE;
+        if (after != null && !after.isBlank()) {
+            String[] cursor = after.split(":");
+            if (cursor.length != 2) {
+                throw new IllegalArgumentException("잘못된 점수 기록 커서입니다: " + after);
+            }
+            try {
+                beforeTime = fromEpochMicros(Long.parseLong(cursor[0]));
+                beforeId = Long.parseLong(cursor[1]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 점수 기록 커서입니다: " + after);
+            }
+        }
+
+        List<ScoreLogDto> fetched = scoreLogHistoryRepository.findRecent(userId, since, beforeTime, beforeId, limit + 1);
+        return CursorPage.of(fetched, limit, row -> toEpochMicros(row.getLogTime()) + ":" + row.getLogId());
+    }
+
+    /** 일 요약 기록 (최신 날짜 순) - 커서는 마지막으로 받은 날짜 (yyyy-MM-dd) */
+    public CursorPage<ScoreLogDailyDto> getDaily(Long userId, String after, int size) {
+        int limit = CursorPage.clampSize(size);
+
+        LocalDate before = LATEST_DATE;
+        if (after != null && !after.isBlank()) {
+            try {
+                before = LocalDate.parse(after);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("잘못된 점수 기록 커서입니다: " + after);
+            }
+        }
+
+        List<ScoreLogDailyDto> fetched = scoreLogHistoryRepository.findDaily(userId, before, limit + 1);
+        return CursorPage.of(fetched, limit, ScoreLogDailyDto::getLogDate);
+    }
+
+    private static long toEpochMicros(LocalDateTime time) {
+        return ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), time);
+    }
+
+    private static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC).plus(micros, ChronoUnit.MICROS);
+    }
+}
@@ -0,0 +1,85 @@
+package me.junyi.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.junyi.repository.ScoreLogHistoryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// score_log 월 파티션 관리
+// - 이번 달부터 app.score-log.partition-months-ahead 개월 뒤까지 파티션을 미리 만들어 기본 파티션으로 새지 않게 하고,
+// - app.score-log.retention-months 개월이 지난 파티션은 사용자별 일 요약(score_log_daily)으로 접은 뒤 삭제합니다.
+// 실제 DDL은 V5 마이그레이션의 DB 함수가 실행하며, 여러 인스턴스가 동시에 실행해도 한 번만 처리됩니다.
+@Slf4j
+@Component
+public class ScoreLogArchiver {
+
+    private final ScoreLogHistoryRepository scoreLogHistoryRepository;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    public ScoreLogArchiver(ScoreLogHistoryRepository scoreLogHistoryRepository,
+                            @Value("${app.score-log.partition-months-ahead:2}") int monthsAhead,
+                            @Value("${app.score-log.retention-months:12}") int retentionMonths) {
+        if (retentionMonths < 1) {
+            throw new IllegalArgumentException("app.score-log.retention-months 는 1 이상이어야 합니다.");
+        }
+        this.scoreLogHistoryRepository = scoreLogHistoryRepository;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    // 기동 직후 한 번 (배포가 월말을 넘겨도 다음 달 파티션이 있도록)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        ensurePartitions();
+    }
+
+    @Scheduled(cron = "${app.score-log.archive-cron:0 30 3 * * *}")
+    public void maintain() {
+        ensurePartitions();
+        archiveExpired();
+    }
+
+    /** 이번 달 ~ monthsAhead 개월 뒤 파티션 생성 */
+    public void ensurePartitions() {
+        LocalDate thisMonth = LocalDate.now().withDayOfMonth(1);
+        for (int i = 0; i <= monthsAhead; i++) {
+            LocalDate month = thisMonth.plusMonths(i);
+            try {
+                if (scoreLogHistoryRepository.ensurePartition(month)) {
+                    log.info("점수 기록 파티션 생성: {}", month);
+                }
+            } catch (RuntimeException e) {
+                // 기본 파티션에 이미 그 달의 기록이 들어간 경우 등 - 다음 달 생성은 계속 시도
+                log.error("점수 기록 파티션 생성 실패: {}", month, e);
+            }
+        }
+    }
+
+    /** 원본 기록 보관 경계 - 이 날짜(월 1일) 이전 기록은 일 요약으로 접힘 (ScoreHistoryService의 최근 기록 조회 하한) */
+    public LocalDate retentionCutoff() {
+        return LocalDate.now().withDayOfMonth(1).minusMonths(retentionMonths);
+    }
+
+    /** 보관 기간이 지난 월 파티션을 일 요약으로 접고 삭제 - 접은 월 목록 반환 */
+    public List<LocalDate> archiveExpired() {
+        LocalDate cutoff = retentionCutoff();
+        List<LocalDate> archived = new ArrayList<>();
+        for (LocalDate month : scoreLogHistoryRepository.findPartitionMonths()) {
+            if (!month.isBefore(cutoff)) break; // 오래된 순이므로 이후 파티션은 모두 보관 기간 안
+            long rows = scoreLogHistoryRepository.archivePartition(month);
+            if (rows >= 0) {
+                log.info("점수 기록 파티션 {} 을(를) 일 요약으로 정리 ({}건)", month, rows);
+                archived.add(month);
+            }
+        }
+        return archived;
+    }
+}
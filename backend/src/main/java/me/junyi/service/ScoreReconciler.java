@@ -0,0 +1,166 @@
+package me.junyi.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.junyi.dto.ScoreMismatchDto;
+import me.junyi.dto.ScoreReconcileResultDto;
+import me.junyi.repository.ScoreLogWriter;
+import me.junyi.repository.ScoreReconcileRepository;
+import me.junyi.repository.ScoreReconcileRepository.ReplayedRange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 점수 재집계 (app_user.score 를 score_log 합계로 검증 / 보정)
+// user_id 범위를 반씩 나눠 app.score-reconcile.chunk-size 이하 구간이 되면 fork/join 풀(app.score-reconcile.parallelism)에서
+// 구간마다 REPEATABLE READ 읽기 전용 트랜잭션 하나로 기록 합계와 현재 점수를 같은 시점에 읽어 비교합니다.
+// 점수 로그는 커밋 후 지연 기록되므로, 시작 전과 재확인 전에 ScoreLogWriter 큐를 비우고
+// 처음 비교에서 차이가 난 사용자만 다시 비교해 그때도 다른 사용자만 불일치로 봅니다.
+// 보정은 재확인한 점수가 그대로일 때만 적용하므로 실행 중에 점수가 바뀐 사용자는 건너뜁니다. (다음 실행에서 다시 확인)
+@Slf4j
+@Component
+public class ScoreReconciler {
+
+    private final ScoreReconcileRepository scoreReconcileRepository;
+    private final ScoreLogWriter scoreLogWriter;
+    private final RankingService rankingService;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final int parallelism;
+    private final long chunkSize;
+    private final int fetchSize;
+    private final int writeBatchSize;
+    private final int reportLimit;
+    private final long drainTimeoutMillis;
+
+    public ScoreReconciler(ScoreReconcileRepository scoreReconcileRepository,
+                           ScoreLogWriter scoreLogWriter,
+                           RankingService rankingService,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.score-reconcile.parallelism:4}") int parallelism,
+                           @Value("${app.score-reconcile.chunk-size:65536}") long chunkSize,
+                           @Value("${app.score-reconcile.fetch-size:10000}") int fetchSize,
+                           @Value("${app.score-reconcile.write-batch-size:1000}") int writeBatchSize,
+                           @Value("${app.score-reconcile.report-limit:100}") int reportLimit,
+                           @Value("${app.score-reconcile.drain-timeout-ms:5000}") long drainTimeoutMillis) {
+        if (parallelism < 1 || chunkSize < 1 || chunkSize > Integer.MAX_VALUE || fetchSize < 1 || writeBatchSize < 1) {
+            throw new IllegalArgumentException(
+                    "app.score-reconcile.parallelism / chunk-size / fetch-size / write-batch-size 는 1 이상이어야 합니다.");
+        }
+        this.scoreReconcileRepository = scoreReconcileRepository;
+        this.scoreLogWriter = scoreLogWriter;
+        this.rankingService = rankingService;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+        this.fetchSize = fetchSize;
+        this.writeBatchSize = writeBatchSize;
+        this.reportLimit = Math.max(0, reportLimit);
+        this.drainTimeoutMillis = drainTimeoutMillis;
+    }
+
+    /** 전체 사용자 점수 재집계 - apply 가 false 이면 불일치만 보고하고 점수는 바꾸지 않음 */
+    public synchronized ScoreReconcileResultDto reconcile(boolean apply) {
+        long startedAt = System.currentTimeMillis();
+
+        awaitScoreLog();
+        ReplayedRange scanned = scoreReconcileRepository.userIdRange()
+                .map(range -> replay(range[0], range[1] + 1))
+                .orElse(ReplayedRange.EMPTY);
+
+        List<ScoreMismatchDto> mismatches = List.of();
+        if (!scanned.mismatches().isEmpty()) {
+            awaitScoreLog();
+            List<Long> userIds = scanned.mismatches().stream().map(ScoreMismatchDto::getUserId).toList();
+            mismatches = readTransaction.execute(status -> scoreReconcileRepository.findMismatches(userIds));
+        }
+
+        long corrected = 0;
+        if (apply) {
+            for (int from = 0; from < mismatches.size(); from += writeBatchSize) {
+                corrected += correct(mismatches.subList(from, Math.min(from + writeBatchSize, mismatches.size())));
+            }
+        }
+
+        long elapsed = System.currentTimeMillis() - startedAt;
+        log.info("점수 재집계 완료 (사용자 {}명, 기록 {}행, 불일치 {}명, 보정 {}명, {}ms)",
+                scanned.users(), scanned.rows(), mismatches.size(), corrected, elapsed);
+        return ScoreReconcileResultDto.builder()
+                .applied(apply)
+                .scannedUsers(scanned.users())
+                .replayedRows(scanned.rows())
+                .mismatchCount((long) mismatches.size())
+                .correctedCount(corrected)
+                .skippedCount(apply ? mismatches.size() - corrected : 0L)
+                .elapsedMs(elapsed)
+                .mismatches(mismatches.subList(0, Math.min(reportLimit, mismatches.size())))
+                .build();
+    }
+
+    // 재집계 직전까지 커밋된 점수 변경의 로그가 모두 기록되도록 대기
+    private void awaitScoreLog() {
+        if (!scoreLogWriter.awaitDrained(drainTimeoutMillis)) {
+            throw new IllegalStateException("점수 로그 기록이 밀려 있어 재집계할 수 없습니다. 잠시 후 다시 시도하세요.");
+        }
+    }
+
+    private ReplayedRange replay(long fromId, long toId) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.invoke(new ReplayTask(fromId, toId));
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("점수 재집계에 실패했습니다.", e);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // 한 배치 보정 - 점수 UPDATE 와 같은 트랜잭션에서 메모리 랭킹 변경을 예약 (커밋 후 반영)
+    private long correct(List<ScoreMismatchDto> batch) {
+        Map<Long, ScoreMismatchDto> byUser = batch.stream()
+                .collect(Collectors.toMap(ScoreMismatchDto::getUserId, Function.identity()));
+        List<Long> correctedIds = writeTransaction.execute(status -> {
+            List<Long> ids = scoreReconcileRepository.applyCorrections(batch);
+            for (Long userId : ids) {
+                rankingService.applyScoreChange(userId, Math.toIntExact(byUser.get(userId).getDifference()));
+            }
+            return ids;
+        });
+        return correctedIds.size();
+    }
+
+    // user_id 구간 [fromId, toId) 를 chunk-size 이하가 될 때까지 반으로 나눠 동시에 재집계
+    private final class ReplayTask extends RecursiveTask<ReplayedRange> {
+
+        private final long fromId;
+        private final long toId;
+
+        ReplayTask(long fromId, long toId) {
+            this.fromId = fromId;
+            this.toId = toId;
+        }
+
+        @Override
+        protected ReplayedRange compute() {
+            if (toId - fromId <= chunkSize) {
+                return readTransaction.execute(status -> scoreReconcileRepository.replayRange(fromId, toId, fetchSize));
+            }
+            long mid = fromId + (toId - fromId) / 2;
+            ReplayTask left = new ReplayTask(fromId, mid);
+            left.fork();
+            ReplayedRange right = new ReplayTask(mid, toId).compute();
+            return left.join().merge(right);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package me.junyi.service;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import me.junyi.domain.AppUser;
+import me.junyi.repository.AppUserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+// 사용자 식별 정보 캐시 (user_id <-> 닉네임)
+// 닉네임/역할은 가입 후 바뀌지 않으므로 DTO 조립과 닉네임 -> id 변환에 반복 조회 없이 사용합니다.
+// 점수는 계속 바뀌므로 담지 않습니다. (점수가 필요하면 AppUserRepository에서 직접 조회)
+// 적중/미적중/제거 수는 cache.* 메트릭(cache=user-identity, user-id-by-nickname)으로 노출됩니다.
+@Component
+public class UserIdentityCache {
+
+    public static final String CACHE_NAME = "user-identity";
+    public static final String NICKNAME_CACHE_NAME = "user-id-by-nickname";
+
+    private final AppUserRepository appUserRepository;
+
+    private final LoadingCache<Long, UserIdentity> byId;
+    private final LoadingCache<String, Long> idByNickname;
+
+    public UserIdentityCache(AppUserRepository appUserRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.cache.user-identity.max-size:50000}") long maxSize) {
+        this.appUserRepository = appUserRepository;
+
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public UserIdentity load(Long userId) {
+                        return loadAll(Set.of(userId)).get(userId);
+                    }
+
+                    @Override
+                    public Map<Long, UserIdentity> loadAll(Set<? extends Long> userIds) {
+                        Map<Long, UserIdentity> result = new HashMap<>();
+                        for (AppUser user : appUserRepository.findAllById(new ArrayList<Long>(userIds))) {
+                            UserIdentity identity = UserIdentity.of(user);
+                            result.put(identity.userId(), identity);
+                            // 반대 방향 캐시도 함께 채움 (적재는 생성자가 끝난 뒤에만 일어나므로 idByNickname은 항상 초기화되어 있음)
+                            UserIdentityCache.this.idByNickname.put(identity.nickname(), identity.userId());
+                        }
+                        return result;
+                    }
+                });
+
+        this.idByNickname = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build(nickname -> appUserRepository.findByNickname(nickname)
+                        .map(user -> {
+                            UserIdentity identity = UserIdentity.of(user);
+                            byId.put(identity.userId(), identity);
+                            return identity.userId();
+                        })
+                        .orElse(null)); // 없는 닉네임은 캐시하지 않음 (이후 가입 가능)
+
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, idByNickname, NICKNAME_CACHE_NAME);
+    }
+
+    /** user_id로 식별 정보 조회 (id가 null이거나 없는 사용자면 empty) */
+    public Optional<UserIdentity> find(Long userId) {
+        if (userId == null) return Optional.empty();
+        return Optional.ofNullable(byId.get(userId));
+    }
+
+    /** 닉네임 조회 - id가 null이거나 없는 사용자면 기본값 */
+    public String nicknameOf(Long userId, String defaultNickname) {
+        return find(userId).map(UserIdentity::nickname).orElse(defaultNickname);
+    }
+
+    /** 여러 사용자를 한 번에 조회 - 캐시에 없는 사용자만 모아 쿼리 1회로 적재 (null/없는 id는 결과에서 빠짐) */
+    public Map<Long, UserIdentity> getAll(Iterable<Long> userIds) {
+        Set<Long> ids = StreamSupport.stream(userIds.spliterator(), false)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return byId.getAll(ids);
+    }
+
+    /** 닉네임 -> user_id */
+    public Optional<Long> idOf(String nickname) {
+        if (nickname == null) return Optional.empty();
+        return Optional.ofNullable(idByNickname.get(nickname));
+    }
+
+    /** 닉네임이 바뀐 경우 등 해당 사용자의 캐시 비우기 */
+    public void invalidate(Long userId) {
+        UserIdentity identity = byId.getIfPresent(userId);
+        byId.invalidate(userId);
+        if (identity != null) idByNickname.invalidate(identity.nickname());
+    }
+
+    public void invalidateAll() {
+        byId.invalidateAll();
+        idByNickname.invalidateAll();
+    }
+
+    public record UserIdentity(Long userId, String nickname, String role) {
+
+        static UserIdentity of(AppUser user) {
+            return new UserIdentity(user.getUserId(), user.getNickname(), user.getRole());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package me.junyi.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.junyi.repository.UserRoleStatsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// user_role_stats 재계산 작업
+// user_id 범위를 app.ranking.stats-rebuild.chunk-size 단위 구간으로 나눠 app.ranking.stats-rebuild.parallelism 개 스레드에서 동시에 계산합니다.
+// 구간마다 "삭제 + case_participation에서 다시 집계"를 한 트랜잭션으로 실행하므로 조회 중에도 구간 단위로만 바뀝니다.
+// 재계산 중에 커밋된 참여 변경은 해당 구간의 집계 시점에 따라 빠질 수 있으므로 사용이 적은 시간에 실행합니다.
+@Slf4j
+@Component
+public class UserRoleStatsRebuilder {
+
+    private final UserRoleStatsRepository userRoleStatsRepository;
+    private final RankingService rankingService;
+    private final TransactionTemplate transactionTemplate;
+    private final int parallelism;
+    private final long chunkSize;
+
+    public UserRoleStatsRebuilder(UserRoleStatsRepository userRoleStatsRepository,
+                                  RankingService rankingService,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.ranking.stats-rebuild.parallelism:4}") int parallelism,
+                                  @Value("${app.ranking.stats-rebuild.chunk-size:10000}") long chunkSize) {
+        if (parallelism < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("app.ranking.stats-rebuild.parallelism / chunk-size 는 1 이상이어야 합니다.");
+        }
+        this.userRoleStatsRepository = userRoleStatsRepository;
+        this.rankingService = rankingService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+    }
+
+    /** 전체 재계산 후 메모리 랭킹 재적재 - 다시 만든 통계 행 수 반환 */
+    public synchronized int rebuild() {
+        long[] range = userRoleStatsRepository.userIdRange().orElse(null);
+        if (range == null) return 0;
+
+        long startedAt = System.currentTimeMillis();
+        AtomicInteger rows = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "user-role-stats-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> chunks = new ArrayList<>();
+            for (long from = range[0]; from <= range[1]; from += chunkSize) {
+                long chunkFrom = from;
+                long chunkTo = Math.min(from + chunkSize, range[1] + 1);
+                chunks.add(executor.submit(() -> rows.addAndGet(transactionTemplate.execute(
+                        status -> userRoleStatsRepository.rebuildRange(chunkFrom, chunkTo)))));
+            }
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("역할별 통계 재계산에 실패했습니다.", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("역할별 통계 재계산이 중단되었습니다.", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        rankingService.reload();
+        log.info("역할별 통계 재계산 완료 ({}행, {}ms)", rows.get(), System.currentTimeMillis() - startedAt);
+        return rows.get();
+    }
+}
@@ -7,28 +7,36 @@ import me.junyi.repository.CaseParticipationRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.Optional;
-import me.junyi.domain.ScoreLog;
-import me.junyi.repository.ScoreLogRepository;
+import me.junyi.repository.ScoreLedgerRepository;
 
 @Service
 public class UserService {
 
     private final AppUserRepository appUserRepository;
     private final CaseParticipationRepository participationRepository;
-    private final ScoreLogRepository scoreLogRepository;
+    private final ScoreLedgerRepository scoreLedgerRepository;
+    private final RankingService rankingService;
+    private final UserIdentityCache userIdentityCache;
+    private final ChangeVersions changeVersions;
 
-    public UserService(AppUserRepository appUserRepository, CaseParticipationRepository participationRepository, ScoreLogRepository scoreLogRepository) {
+    public UserService(AppUserRepository appUserRepository, CaseParticipationRepository participationRepository, ScoreLedgerRepository scoreLedgerRepository,
+                       RankingService rankingService, UserIdentityCache userIdentityCache, ChangeVersions changeVersions) {
         this.appUserRepository = appUserRepository;
         this.participationRepository = participationRepository;
-        this.scoreLogRepository = scoreLogRepository;
+        this.scoreLedgerRepository = scoreLedgerRepository;
+        this.rankingService = rankingService;
+        this.userIdentityCache = userIdentityCache;
+        this.changeVersions = changeVersions;
     }
 
     public Optional<AppUser> findByNickname(String nickname) {
-        return appUserRepository.findByNickname(nickname);
+        // 닉네임 -> user_id 는 캐시에서 변환하고, 점수는 항상 최신 값이어야 하므로 PK로 다시 조회
+        return userIdentityCache.idOf(nickname).flatMap(appUserRepository::findById);
     }
 
+    /** 사건 의뢰 시작 - 변경된 의뢰인 점수를 반환 */
     @Transactional
-    public AppUser startCase(Long clientId, Long caseId) {
+    public int startCase(Long clientId, Long caseId) {
         // 1. CASE_PARTICIPATION 레코드 생성 (의뢰인 등록)
         CaseParticipation participation = CaseParticipation.builder()
                 .caseId(caseId)
@@ -36,22 +44,14 @@ public class UserService {
                 .build();
         participationRepository.save(participation);
 
-        // 2. 의뢰인 점수 +1 업데이트
-        AppUser client = appUserRepository.findById(clientId)
-                .orElseThrow(() -> new IllegalArgumentException("의뢰인을 찾을 수 없습니다."));
+        // 2. 의뢰인 점수 +1 업데이트 (원자적 증가) + 3. SCORE_LOG 기록 (커밋 후 백그라운드 배치)
+        int newScore = scoreLedgerRepository.apply(clientId, caseId, 1, "사건 의뢰 시작 (초기 점수)");
 
-        client.setScore(client.getScore() + 1);
-        AppUser updatedClient = appUserRepository.save(client);
+        // 4. 역할별 참여 건수(user_role_stats, 커밋 직전) + 메모리 랭킹 반영 (커밋 후)
+        rankingService.applyScoreChange(clientId, 1);
+        rankingService.applyCaseJoined(clientId, RankingService.CLIENT);
+        changeVersions.touchCase(clientId); // 의뢰인 사건 목록 ETag (커밋 후)
 
-        // 3. SCORE_LOG 기록 (의뢰인 초기 점수 +1)
-        ScoreLog log = ScoreLog.builder()
-                .userId(clientId)
-                .caseId(caseId)
-                .scoreChange(1)
-                .reason("사건 의뢰 시작 (초기 점수)")
-                .build();
-        scoreLogRepository.save(log);
-
-        return updatedClient;
+        return newScore;
     }
 }
\ No newline at end of file
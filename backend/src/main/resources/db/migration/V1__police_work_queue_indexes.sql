@@ -0,0 +1,10 @@
+-- 경찰 업무 큐 조회용 인덱스
+-- /police/pending, /police/my 조회가 전체 테이블 스캔 대신 인덱스를 타도록 합니다.
+CREATE INDEX IF NOT EXISTS idx_case_participation_police_id
+    ON case_participation (police_id);
+
+CREATE INDEX IF NOT EXISTS idx_case_participation_case_id
+    ON case_participation (case_id);
+
+CREATE INDEX IF NOT EXISTS idx_case_info_status
+    ON case_info (status);
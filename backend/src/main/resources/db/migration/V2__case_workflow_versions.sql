@@ -0,0 +1,8 @@
+-- 사건 워크플로우 낙관적 동시성 제어용 버전 컬럼
+-- case_info / case_participation 을 갱신할 때마다 1씩 증가하며,
+-- 읽은 뒤 다른 요청이 먼저 갱신한 경우 저장이 실패하도록 합니다. (@Version)
+ALTER TABLE case_info
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE case_participation
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
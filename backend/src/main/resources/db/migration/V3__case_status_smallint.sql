@@ -0,0 +1,23 @@
+-- 사건 상태를 한글 문자열에서 smallint 코드로 변경 (me.junyi.domain.CaseStatus 의 code)
+-- 0 등록 / 1 조작 / 2 접수중 / 3 배정 / 4 결과 확인
+-- 목록에 없는 상태 값이 남아 있으면 NULL이 되어 NOT NULL 제약에서 마이그레이션이 실패합니다. (조용히 버리지 않음)
+-- idx_case_info_status 인덱스는 타입 변경과 함께 다시 만들어집니다.
+ALTER TABLE case_info
+    ALTER COLUMN status DROP DEFAULT;
+
+ALTER TABLE case_info
+    ALTER COLUMN status TYPE SMALLINT USING (
+        CASE status
+            WHEN '등록' THEN 0
+            WHEN '조작' THEN 1
+            WHEN '접수중' THEN 2
+            WHEN '배정' THEN 3
+            WHEN '결과 확인' THEN 4
+        END
+    );
+
+ALTER TABLE case_info
+    ALTER COLUMN status SET NOT NULL;
+
+ALTER TABLE case_info
+    ADD CONSTRAINT case_info_status_code CHECK (status BETWEEN 0 AND 4);
@@ -0,0 +1,14 @@
+-- Idempotency-Key 응답 저장 테이블 (app.idempotency.persist=true 일 때 사용)
+-- 메모리 저장소에 없는 키(다른 인스턴스 / 재시작 이후)의 재시도도 저장된 응답으로 돌려주기 위해 남깁니다.
+-- expires_at 이 지난 행은 IdempotencyStore가 주기적으로 삭제합니다.
+CREATE TABLE IF NOT EXISTS idempotency_key (
+    idem_key     VARCHAR(400) PRIMARY KEY, -- "메서드 경로|키"
+    request_hash CHAR(64)     NOT NULL,    -- 요청 본문 SHA-256 (같은 키를 다른 본문으로 재사용하는지 확인)
+    status       SMALLINT     NOT NULL,
+    content_type VARCHAR(100),
+    body         BYTEA        NOT NULL,
+    expires_at   TIMESTAMPTZ  NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_key_expires_at
+    ON idempotency_key (expires_at);
@@ -0,0 +1,103 @@
+-- score_log 를 log_time 기준 월별 범위 파티션 테이블로 변경
+-- 파티션 이름은 score_log_pYYYYMM (해당 월 1일 ~ 다음 달 1일), 범위 밖의 행은 score_log_default 로 들어갑니다.
+-- 다음 달 파티션은 ScoreLogArchiver 가 미리 만들고, 보관 기간이 지난 파티션은 사용자별 일 요약(score_log_daily)으로 접은 뒤 삭제합니다.
+-- 파티션 테이블의 기본 키에는 파티션 키가 포함되어야 하므로 (log_id, log_time) 으로 바뀝니다.
+
+CREATE SEQUENCE IF NOT EXISTS score_log_part_log_id_seq;
+
+CREATE TABLE score_log_part (
+    log_id       BIGINT       NOT NULL DEFAULT nextval('score_log_part_log_id_seq'),
+    user_id      BIGINT       NOT NULL REFERENCES app_user (user_id),
+    case_id      BIGINT,
+    score_change INTEGER      NOT NULL,
+    reason       VARCHAR(100),
+    log_time     TIMESTAMP    NOT NULL DEFAULT now(),
+    PRIMARY KEY (log_id, log_time)
+) PARTITION BY RANGE (log_time);
+
+CREATE TABLE score_log_default PARTITION OF score_log_part DEFAULT;
+
+-- 사용자별 최근 기록 조회 (user_id, log_time DESC, log_id DESC) - 각 파티션에 같은 인덱스가 만들어집니다.
+CREATE INDEX idx_score_log_user_time
+    ON score_log_part (user_id, log_time DESC, log_id DESC);
+
+-- 월 파티션 생성 (이미 있으면 아무것도 하지 않음)
+-- 기본 파티션에 해당 월의 행이 이미 있으면 생성이 실패하므로 다음 달 파티션은 미리 만들어 둡니다.
+CREATE OR REPLACE FUNCTION score_log_ensure_partition(p_month DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    v_from DATE := date_trunc('month', p_month)::date;
+    v_name TEXT := 'score_log_p' || to_char(v_from, 'YYYYMM');
+BEGIN
+    -- 여러 인스턴스가 동시에 실행해도 한 번만 처리되도록 파티션 작업끼리 직렬화
+    PERFORM pg_advisory_xact_lock(hashtext('score_log_partitions'));
+    IF to_regclass(v_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+    EXECUTE format('CREATE TABLE %I PARTITION OF score_log FOR VALUES FROM (%L) TO (%L)',
+                   v_name, v_from, (v_from + INTERVAL '1 month')::date);
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 기존 기록이 있는 달 ~ 다음 달까지 파티션 생성 후 이관 (함수가 score_log 이름을 쓰므로 이름을 먼저 바꿈)
+ALTER TABLE score_log RENAME TO score_log_legacy;
+ALTER TABLE score_log_part RENAME TO score_log;
+
+DO $$
+DECLARE
+    v_month DATE;
+BEGIN
+    FOR v_month IN
+        SELECT generate_series(
+                       date_trunc('month', COALESCE((SELECT min(log_time) FROM score_log_legacy), now())),
+                       date_trunc('month', now()) + INTERVAL '1 month',
+                       INTERVAL '1 month')::date
+    LOOP
+        PERFORM score_log_ensure_partition(v_month);
+    END LOOP;
+END;
+$$;
+
+INSERT INTO score_log (log_id, user_id, case_id, score_change, reason, log_time)
+SELECT log_id, user_id, case_id, score_change, reason, log_time
+FROM score_log_legacy;
+
+SELECT setval('score_log_part_log_id_seq', COALESCE((SELECT max(log_id) FROM score_log), 0) + 1, false);
+
+DROP TABLE score_log_legacy;
+
+ALTER SEQUENCE score_log_part_log_id_seq OWNED BY score_log.log_id;
+
+-- 보관 기간이 지난 기록의 사용자별 일 요약
+CREATE TABLE IF NOT EXISTS score_log_daily (
+    user_id      BIGINT  NOT NULL,
+    log_date     DATE    NOT NULL,
+    score_change BIGINT  NOT NULL, -- 그날 점수 변경량 합계
+    entry_count  INTEGER NOT NULL, -- 그날 기록 수
+    PRIMARY KEY (user_id, log_date)
+);
+
+-- 월 파티션을 일 요약으로 접고 삭제 (요약과 삭제가 한 트랜잭션에서 일어나므로 중간에 실패해도 기록이 사라지지 않음)
+-- 요약한 행 수를 반환하며, 파티션이 없으면 -1
+CREATE OR REPLACE FUNCTION score_log_archive_partition(p_month DATE) RETURNS BIGINT AS $$
+DECLARE
+    v_from DATE := date_trunc('month', p_month)::date;
+    v_name TEXT := 'score_log_p' || to_char(v_from, 'YYYYMM');
+    v_rows BIGINT;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('score_log_partitions'));
+    IF to_regclass(v_name) IS NULL THEN
+        RETURN -1;
+    END IF;
+    EXECUTE format(
+            'INSERT INTO score_log_daily (user_id, log_date, score_change, entry_count)
+             SELECT user_id, log_time::date, sum(score_change), count(*) FROM %I GROUP BY user_id, log_time::date
+             ON CONFLICT (user_id, log_date) DO UPDATE
+                 SET score_change = score_log_daily.score_change + EXCLUDED.score_change,
+                     entry_count  = score_log_daily.entry_count + EXCLUDED.entry_count', v_name);
+    EXECUTE format('SELECT count(*) FROM %I', v_name) INTO v_rows;
+    EXECUTE format('ALTER TABLE score_log DETACH PARTITION %I', v_name);
+    EXECUTE format('DROP TABLE %I', v_name);
+    RETURN v_rows;
+END;
+$$ LANGUAGE plpgsql;
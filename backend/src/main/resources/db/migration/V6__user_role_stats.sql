@@ -0,0 +1,39 @@
+-- 사용자별 역할별 사건 통계 (랭킹 조회용 읽기 모델)
+-- role 은 사건 참여 위치 (client_id -> 의뢰인, criminal_id -> 범인, police_id -> 경찰, detective_id -> 탐정) 입니다.
+-- 사건 참여 / 담당 변경 / 결과 확인 트랜잭션 안에서 증감하므로 랭킹 적재가 case_participation 전체를 GROUP BY 하지 않습니다.
+-- 어긋난 경우 POST /api/admin/ranking/stats/rebuild 로 case_participation 에서 다시 계산합니다.
+CREATE TABLE IF NOT EXISTS user_role_stats (
+    user_id      BIGINT      NOT NULL REFERENCES app_user (user_id),
+    role         VARCHAR(20) NOT NULL,
+    total_cases  BIGINT      NOT NULL DEFAULT 0,
+    solved_cases BIGINT      NOT NULL DEFAULT 0,
+    success_rate DOUBLE PRECISION GENERATED ALWAYS AS (
+        CASE WHEN total_cases = 0 THEN 0 ELSE solved_cases * 100.0 / total_cases END
+    ) STORED,
+    PRIMARY KEY (user_id, role)
+);
+
+-- 재계산을 user_id 구간별로 나눠 실행할 때 참여 위치별로 인덱스를 타도록 (police_id 는 V1)
+CREATE INDEX IF NOT EXISTS idx_case_participation_client_id
+    ON case_participation (client_id);
+
+CREATE INDEX IF NOT EXISTS idx_case_participation_criminal_id
+    ON case_participation (criminal_id);
+
+CREATE INDEX IF NOT EXISTS idx_case_participation_detective_id
+    ON case_participation (detective_id);
+
+-- 기존 참여 이력으로 초기 적재
+INSERT INTO user_role_stats (user_id, role, total_cases, solved_cases)
+SELECT p.user_id, p.role, count(*), count(*) FILTER (WHERE p.is_solved)
+FROM (
+    SELECT client_id AS user_id, '의뢰인' AS role, is_solved FROM case_participation WHERE client_id IS NOT NULL
+    UNION ALL
+    SELECT criminal_id, '범인', is_solved FROM case_participation WHERE criminal_id IS NOT NULL
+    UNION ALL
+    SELECT police_id, '경찰', is_solved FROM case_participation WHERE police_id IS NOT NULL
+    UNION ALL
+    SELECT detective_id, '탐정', is_solved FROM case_participation WHERE detective_id IS NOT NULL
+) p
+GROUP BY p.user_id, p.role
+ON CONFLICT (user_id, role) DO NOTHING;
@@ -0,0 +1,26 @@
+-- 역할별 랭킹 스냅샷 (시즌 / 순위 변동 조회용)
+-- RankingSnapshotService 가 주기적으로(app.ranking.snapshot.cron) 메모리 랭킹을 그대로 기록합니다.
+-- ?asOf= 조회는 해당 시점 이전의 마지막 스냅샷을, ?deltaSince= 는 현재 순위와 스냅샷 순위의 차이를 돌려주며
+-- 어느 쪽도 score_log 를 다시 집계하지 않습니다.
+CREATE TABLE IF NOT EXISTS ranking_snapshot (
+    snapshot_id BIGSERIAL PRIMARY KEY,
+    taken_at    TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_ranking_snapshot_taken_at
+    ON ranking_snapshot (taken_at);
+
+CREATE TABLE IF NOT EXISTS ranking_snapshot_entry (
+    snapshot_id      BIGINT      NOT NULL REFERENCES ranking_snapshot (snapshot_id) ON DELETE CASCADE,
+    role             VARCHAR(20) NOT NULL,
+    rank             INTEGER     NOT NULL, -- 동점이어도 겹치지 않는 위치
+    user_id          BIGINT      NOT NULL,
+    score            BIGINT      NOT NULL,
+    competition_rank INTEGER     NOT NULL,
+    dense_rank       INTEGER     NOT NULL,
+    PRIMARY KEY (snapshot_id, role, rank)
+);
+
+-- 사용자별 스냅샷 순위 조회 (주변 순위 / 순위 변동)
+CREATE INDEX IF NOT EXISTS idx_ranking_snapshot_entry_user
+    ON ranking_snapshot_entry (snapshot_id, role, user_id);
@@ -0,0 +1,9 @@
+-- 경찰 "내가 맡은 사건" 조회용 인덱스
+-- police_my_cases.sql 은 police_id + part_id keyset 으로 읽고 종료('결과 확인' = 4) 사건을 제외하므로,
+-- (police_id, part_id) 순서 인덱스와 진행 중 사건만 담는 부분 인덱스로 종료 사건을 읽지 않고 조인합니다.
+CREATE INDEX IF NOT EXISTS idx_case_participation_police_part
+    ON case_participation (police_id, part_id);
+
+CREATE INDEX IF NOT EXISTS idx_case_info_open
+    ON case_info (case_id)
+    WHERE status <> 4;
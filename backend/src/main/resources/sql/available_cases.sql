@@ -8,5 +8,8 @@ SELECT
 FROM case_participation cp
 JOIN case_info c ON cp.case_id = c.case_id
 JOIN app_user u ON cp.client_id = u.user_id
-WHERE c.status = '등록'
-AND cp.criminal_id IS NULL;
\ No newline at end of file
+WHERE c.status = 0 -- 등록
+AND cp.criminal_id IS NULL
+AND cp.part_id > ?
+ORDER BY cp.part_id
+LIMIT ?;
\ No newline at end of file
@@ -0,0 +1,7 @@
+-- 사건 상태 전이: 현재 상태가 기대한 상태일 때만 다음 상태로 변경 (동시에 요청되면 한 건만 성공)
+UPDATE case_info
+SET status = ?,
+    version = version + 1
+WHERE case_id = ?
+  AND status = ?
+RETURNING case_id, title, content, difficulty, true_criminal_id, status, version;
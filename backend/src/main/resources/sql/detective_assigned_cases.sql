@@ -0,0 +1,18 @@
+SELECT
+    cp.part_id AS active_id,
+    c.case_id,
+    c.title,
+    c.content,
+    c.difficulty,
+    c.status,
+    cu.nickname AS client_nickname,
+    pu.nickname AS police_nickname
+FROM case_participation cp
+JOIN case_info c ON cp.case_id = c.case_id
+LEFT JOIN app_user cu ON cp.client_id = cu.user_id
+LEFT JOIN app_user pu ON cp.police_id = pu.user_id
+WHERE cp.detective_id = ?
+AND c.status = 3 -- 배정
+AND cp.part_id > ?
+ORDER BY cp.part_id
+LIMIT ?;
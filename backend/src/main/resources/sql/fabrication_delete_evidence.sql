@@ -0,0 +1,3 @@
+-- 사건의 기존 제출 증거 전체 삭제 (증거 조작 시 새 목록으로 교체)
+DELETE FROM submitted_evidence
+WHERE case_id = ?;
@@ -0,0 +1,6 @@
+-- 제출 증거 여러 건을 INSERT 한 번으로 저장
+-- 설명/진위 배열을 같은 순서로 펼쳐 행을 만듭니다. (배열 길이와 무관하게 문장 1개)
+INSERT INTO submitted_evidence (case_id, evidence_description, is_true_evidence)
+SELECT ?, e.description, e.is_true
+FROM unnest(?::text[], ?::boolean[]) WITH ORDINALITY AS e(description, is_true, ord)
+ORDER BY e.ord;
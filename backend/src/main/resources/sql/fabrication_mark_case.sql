@@ -0,0 +1,8 @@
+-- 증거 조작 완료: '등록' 상태일 때만 '조작'으로 바꾸고, 실제 범인이 비어 있으면 조작한 범인으로 지정
+UPDATE case_info
+SET status = 1, -- 조작
+    true_criminal_id = COALESCE(true_criminal_id, ?),
+    version = version + 1
+WHERE case_id = ?
+  AND status = 0 -- 등록
+RETURNING case_id, title, content, difficulty, true_criminal_id, status, version;
@@ -0,0 +1,4 @@
+SELECT request_hash, status, content_type, body
+FROM idempotency_key
+WHERE idem_key = ?
+  AND expires_at > now();
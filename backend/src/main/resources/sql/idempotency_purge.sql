@@ -0,0 +1,2 @@
+DELETE FROM idempotency_key
+WHERE expires_at <= now();
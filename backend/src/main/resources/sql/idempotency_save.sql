@@ -0,0 +1,4 @@
+-- 먼저 저장된 응답을 유지 (같은 키로 동시에 완료된 경우에도 처음 응답만 재생)
+INSERT INTO idempotency_key (idem_key, request_hash, status, content_type, body, expires_at)
+VALUES (?, ?, ?, ?, ?, now() + make_interval(secs => ?))
+ON CONFLICT (idem_key) DO NOTHING;
@@ -0,0 +1,18 @@
+SELECT
+    cp.part_id AS active_id,
+    c.case_id,
+    c.title,
+    c.content,
+    c.difficulty,
+    c.status,
+    cu.nickname AS client_nickname,
+    ku.nickname AS culprit_nickname
+FROM case_participation cp
+JOIN case_info c ON cp.case_id = c.case_id
+LEFT JOIN app_user cu ON cp.client_id = cu.user_id
+LEFT JOIN app_user ku ON cp.criminal_id = ku.user_id
+WHERE cp.police_id = ?
+AND cp.part_id > ?
+AND c.status <> 4  -- 결과 확인(종료) 사건 제외
+ORDER BY cp.part_id
+LIMIT ?;
@@ -0,0 +1,16 @@
+SELECT
+    cp.part_id AS active_id,
+    c.case_id,
+    c.title,
+    c.content,
+    c.difficulty,
+    c.status,
+    cu.nickname AS client_nickname,
+    ku.nickname AS culprit_nickname
+FROM case_info c
+JOIN case_participation cp ON cp.case_id = c.case_id
+LEFT JOIN app_user cu ON cp.client_id = cu.user_id
+LEFT JOIN app_user ku ON cp.criminal_id = ku.user_id
+WHERE (c.status = 1 AND cp.police_id IS NULL)  -- 조작
+   OR (c.status = 2 AND cp.police_id = ?)      -- 접수중
+ORDER BY cp.part_id;
@@ -1,16 +1,12 @@
+-- 통계는 user_role_stats (참여/결과 확인 시 증감되는 읽기 모델) 에서 읽으므로 case_participation 을 집계하지 않음
 SELECT
     u.user_id AS "userId",
     u.nickname AS "nickname",
     u.score AS "score",
-    COUNT(p.part_id) AS "totalCases",
-    COALESCE(
-        AVG(CASE WHEN p.is_solved = TRUE THEN 1 ELSE 0 END) * 100,
-        0
-    ) AS "successRate"
+    COALESCE(s.total_cases, 0) AS "totalCases",
+    COALESCE(s.solved_cases, 0) AS "solvedCases"
 FROM app_user u
-LEFT JOIN case_participation p
-    ON u.user_id = p.criminal_id
+LEFT JOIN user_role_stats s
+    ON s.user_id = u.user_id AND s.role = u.role
 WHERE u.role = '범인'
-GROUP BY u.user_id, u.nickname, u.score
-HAVING COUNT(p.part_id) > 0  -- 사건 참여 횟수가 1건 이상인 경우만
 ORDER BY u.score DESC;
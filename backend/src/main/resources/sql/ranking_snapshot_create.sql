@@ -0,0 +1 @@
+INSERT INTO ranking_snapshot (taken_at) VALUES (?) RETURNING snapshot_id;
@@ -0,0 +1,6 @@
+-- 주어진 시각 이전(포함)의 마지막 스냅샷
+SELECT snapshot_id, taken_at
+FROM ranking_snapshot
+WHERE taken_at <= ?
+ORDER BY taken_at DESC
+LIMIT 1;
@@ -0,0 +1,4 @@
+-- 한 역할의 스냅샷 행 여러 건을 INSERT 한 번으로 저장 (배열은 모두 같은 순서 / 길이)
+INSERT INTO ranking_snapshot_entry (snapshot_id, role, rank, user_id, score, competition_rank, dense_rank)
+SELECT ?, ?, e.rank, e.user_id, e.score, e.competition_rank, e.dense_rank
+FROM unnest(?::int[], ?::bigint[], ?::bigint[], ?::int[], ?::int[]) AS e(rank, user_id, score, competition_rank, dense_rank);
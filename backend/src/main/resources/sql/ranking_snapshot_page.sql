@@ -0,0 +1,7 @@
+SELECT rank, user_id, score, competition_rank, dense_rank
+FROM ranking_snapshot_entry
+WHERE snapshot_id = ?
+AND role = ?
+AND rank > ?
+ORDER BY rank
+LIMIT ?;
@@ -0,0 +1,2 @@
+-- 보관 기간이 지난 스냅샷 삭제 (행은 ON DELETE CASCADE)
+DELETE FROM ranking_snapshot WHERE taken_at < ?;
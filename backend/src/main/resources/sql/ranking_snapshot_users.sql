@@ -0,0 +1,5 @@
+SELECT rank, user_id, score, competition_rank, dense_rank
+FROM ranking_snapshot_entry
+WHERE snapshot_id = ?
+AND role = ?
+AND user_id = ANY (?::bigint[]);
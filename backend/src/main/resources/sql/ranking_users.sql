@@ -0,0 +1,13 @@
+-- 적재 이후 새로 생긴 사용자만 읽기 (ranking_*.sql 과 같은 기준, 역할은 컬럼으로)
+SELECT
+    u.user_id AS "userId",
+    u.nickname AS "nickname",
+    u.role AS "role",
+    u.score AS "score",
+    COALESCE(s.total_cases, 0) AS "totalCases",
+    COALESCE(s.solved_cases, 0) AS "solvedCases"
+FROM app_user u
+LEFT JOIN user_role_stats s
+    ON s.user_id = u.user_id AND s.role = u.role
+WHERE u.user_id = ANY(?)
+AND u.role IN ('탐정', '범인', '의뢰인', '경찰');
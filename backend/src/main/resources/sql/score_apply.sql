@@ -0,0 +1,4 @@
+UPDATE app_user
+SET score = COALESCE(score, 0) + ?
+WHERE user_id = ?
+RETURNING score;
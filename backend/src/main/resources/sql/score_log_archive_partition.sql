@@ -0,0 +1 @@
+SELECT score_log_archive_partition(?);
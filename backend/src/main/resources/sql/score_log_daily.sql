@@ -0,0 +1,9 @@
+SELECT
+    log_date,
+    score_change,
+    entry_count
+FROM score_log_daily
+WHERE user_id = ?
+AND log_date < ?
+ORDER BY log_date DESC
+LIMIT ?;
@@ -0,0 +1 @@
+SELECT score_log_ensure_partition(?);
@@ -0,0 +1,2 @@
+INSERT INTO score_log (user_id, case_id, score_change, reason, log_time)
+VALUES (?, ?, ?, ?, ?);
@@ -0,0 +1,7 @@
+-- score_log 의 월 파티션 목록 (score_log_pYYYYMM -> 해당 월 1일), 기본 파티션은 제외
+SELECT to_date(substr(c.relname, length('score_log_p') + 1), 'YYYYMM') AS month
+FROM pg_inherits i
+JOIN pg_class c ON c.oid = i.inhrelid
+WHERE i.inhparent = 'score_log'::regclass
+AND c.relname ~ '^score_log_p[0-9]{6}$'
+ORDER BY month;
@@ -0,0 +1,12 @@
+SELECT
+    log_id,
+    case_id,
+    score_change,
+    reason,
+    log_time
+FROM score_log
+WHERE user_id = ?
+AND log_time >= ? -- 보관 경계 (일 요약으로 접히는 이전 월 파티션은 읽지 않음)
+AND (log_time, log_id) < (?, ?)
+ORDER BY log_time DESC, log_id DESC
+LIMIT ?;
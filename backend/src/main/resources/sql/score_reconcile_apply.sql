@@ -0,0 +1,7 @@
+-- 점수 보정 - 확인한 뒤 점수가 바뀐 사용자는 건너뜀 (보정한 user_id 반환)
+UPDATE app_user u
+SET score = c.replayed
+FROM unnest(?::bigint[], ?::bigint[], ?::bigint[]) AS c(user_id, recorded, replayed)
+WHERE u.user_id = c.user_id
+AND COALESCE(u.score, 0) = c.recorded
+RETURNING u.user_id;
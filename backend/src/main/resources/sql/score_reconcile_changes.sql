@@ -0,0 +1,10 @@
+-- user_id 구간 [?, ?) 의 점수 변경 기록 (보관 기간이 지나 일 요약으로 접힌 기록 포함)
+SELECT user_id, score_change
+FROM score_log
+WHERE user_id >= ?
+AND user_id < ?
+UNION ALL
+SELECT user_id, score_change
+FROM score_log_daily
+WHERE user_id >= ?
+AND user_id < ?;
@@ -0,0 +1,4 @@
+SELECT user_id, COALESCE(score, 0) AS score
+FROM app_user
+WHERE user_id >= ?
+AND user_id < ?;
@@ -0,0 +1 @@
+SELECT min(user_id) AS min_id, max(user_id) AS max_id FROM app_user;
@@ -0,0 +1,8 @@
+-- 지정한 사용자들의 현재 점수와 기록을 다시 합산한 점수
+SELECT
+    u.user_id,
+    COALESCE(u.score, 0) AS score,
+    COALESCE((SELECT sum(l.score_change) FROM score_log l WHERE l.user_id = u.user_id), 0)
+        + COALESCE((SELECT sum(d.score_change) FROM score_log_daily d WHERE d.user_id = u.user_id), 0) AS replayed
+FROM app_user u
+WHERE u.user_id = ANY(?);
@@ -0,0 +1,9 @@
+-- 사용자/역할별 참여 건수, 해결 건수 증감을 INSERT 한 번으로 반영 (없는 행은 새로 만듦)
+-- 같은 (user_id, role) 이 두 번 오지 않도록 호출 측에서 합쳐서 넘깁니다.
+INSERT INTO user_role_stats AS s (user_id, role, total_cases, solved_cases)
+SELECT d.user_id, d.role, d.total_delta, d.solved_delta
+FROM unnest(?::bigint[], ?::varchar[], ?::bigint[], ?::bigint[]) AS d(user_id, role, total_delta, solved_delta)
+ORDER BY d.user_id, d.role -- 행 잠금 순서 고정
+ON CONFLICT (user_id, role) DO UPDATE
+    SET total_cases  = GREATEST(s.total_cases + EXCLUDED.total_cases, 0),
+        solved_cases = GREATEST(s.solved_cases + EXCLUDED.solved_cases, 0);
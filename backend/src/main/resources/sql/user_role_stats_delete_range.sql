@@ -0,0 +1 @@
+DELETE FROM user_role_stats WHERE user_id >= ? AND user_id < ?;
@@ -0,0 +1,17 @@
+-- user_id 구간 [?, ?) 의 통계를 case_participation 에서 다시 계산 (DELETE 후 같은 트랜잭션에서 실행)
+-- DELETE 이후 동시에 커밋된 증감(user_role_stats_apply.sql)이 새 행을 만들었을 수 있으므로, 이미 있는 행은 다시 계산한 값으로 덮어씀
+INSERT INTO user_role_stats (user_id, role, total_cases, solved_cases)
+SELECT p.user_id, p.role, count(*), count(*) FILTER (WHERE p.is_solved)
+FROM (
+    SELECT client_id AS user_id, '의뢰인' AS role, is_solved FROM case_participation WHERE client_id >= ? AND client_id < ?
+    UNION ALL
+    SELECT criminal_id, '범인', is_solved FROM case_participation WHERE criminal_id >= ? AND criminal_id < ?
+    UNION ALL
+    SELECT police_id, '경찰', is_solved FROM case_participation WHERE police_id >= ? AND police_id < ?
+    UNION ALL
+    SELECT detective_id, '탐정', is_solved FROM case_participation WHERE detective_id >= ? AND detective_id < ?
+) p
+GROUP BY p.user_id, p.role
+ON CONFLICT (user_id, role) DO UPDATE
+    SET total_cases  = EXCLUDED.total_cases,
+        solved_cases = EXCLUDED.solved_cases;
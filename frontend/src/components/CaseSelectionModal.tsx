@@ -5,6 +5,7 @@ import { Badge } from './ui/badge';
 import { X, FileText, Loader2 } from 'lucide-react'; // 🚨 Loader2 추가
 import axios from 'axios'; // 🚨 axios 추가
 import { toast } from 'sonner'; // 🚨 toast 추가
+import { newIdempotencyKey } from './idempotency';
 
 const apiClient = axios.create({ baseURL: '/api', withCredentials: true });
 
@@ -61,6 +62,9 @@ export function CaseSelectionModal({ userId, onClose, onCaseSelected }: CaseSele
             const response = await apiClient.post('/case/start', {
                 caseId: selectedCase.caseId, // 카멜 케이스 사용
                 clientId: userId
+            }, {
+                // 재시도(네트워크/로드밸런서)로 같은 요청이 다시 전송돼도 점수가 한 번만 반영되도록
+                headers: { 'Idempotency-Key': newIdempotencyKey() },
             });
 
             toast.success(`'${selectedCase.title}' 사건 의뢰가 시작되었습니다.`);
@@ -5,6 +5,7 @@ import { Badge } from './ui/badge';
 import { X, Search, TrendingUp, Loader2 } from 'lucide-react';
 import axios from 'axios';
 import { toast } from 'sonner';
+import { newIdempotencyKey } from './idempotency';
 
 const apiClient = axios.create({ baseURL: '/api', withCredentials: true });
 
@@ -73,6 +74,9 @@ export function DetectiveAssignModal({ caseData, policeId, onClose, onDetectiveA
                 caseId: caseData.caseId, 
                 policeId: policeId, // 🚨 경찰 ID 전송
                 detectiveId: selectedDetective.userId, // 선택된 탐정 ID 전송
+            }, {
+                // 재시도(네트워크/로드밸런서)로 같은 요청이 다시 전송돼도 점수가 한 번만 반영되도록
+                headers: { 'Idempotency-Key': newIdempotencyKey() },
             });
 
             toast.success(`${selectedDetective.nickname} 탐정에게 사건을 성공적으로 배정했습니다!`);
@@ -5,6 +5,7 @@ import { Badge } from './ui/badge';
 import { X, Search, CheckCircle } from 'lucide-react';
 import { toast } from 'sonner';
 import axios from 'axios';
+import { newIdempotencyKey } from './idempotency';
 
 const apiClient = axios.create({ baseURL: '/api', withCredentials: true });
 
@@ -91,6 +92,9 @@ export function InvestigationModal({ caseData, detectiveId, onClose, onComplete
                 detectiveId: detectiveId,
                 culpritGuessNickname: selectedSuspect,
                 reasoning: reasoning, 
+            }, {
+                // 재시도(네트워크/로드밸런서)로 같은 요청이 다시 전송돼도 점수가 한 번만 반영되도록
+                headers: { 'Idempotency-Key': newIdempotencyKey() },
             });
             
             console.log("Guess submitted successfully:", response.data);